@@ -0,0 +1,139 @@
+package com.tibebguess.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tibebguess.GameController;
+import com.tibebguess.GameSnapshot;
+import com.tibebguess.Proverb;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Restyles the real {@link GameController} screen the way one round does:
+ * the round start and status update, one CSS pass per timer second, the
+ * answer reveal and the answer's feedback and status update. Every snapshot
+ * goes through {@link GameController#render} and is followed by a CSS pass
+ * of the whole scene, as the next pulse would do. {@code selectDifficulty}
+ * clicks the start screen's EASY and MEDIUM buttons.
+ *
+ * The forked JVM uses the headless Monocle glass platform and the software
+ * pipeline, so no display is needed. Proverbs have no image path, so no
+ * image is decoded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"})
+public class GameScreenCssBenchmark {
+    private static final int ROUND_SECONDS = 30;
+
+    private GameController controller;
+    private StackPane root;
+    private Button easyButton;
+    private Button mediumButton;
+    private GameSnapshot snapshot;
+    private Proverb proverb;
+    private int score;
+
+    @Setup
+    public void startToolkit() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException alreadyRunning) {
+            started.countDown();
+        }
+        if (!started.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("JavaFX toolkit did not start");
+        }
+        proverb = new Proverb("ሰው ለሰው መድኃኒቱ ነው", "", Proverb.Difficulty.MEDIUM);
+        snapshot = GameSnapshot.INITIAL.withStatus(0, 3, Proverb.Difficulty.MEDIUM);
+        onFxThread(() -> {
+            controller = new GameController(null, Runnable::run);
+            root = controller.getRoot();
+            new Scene(root, 1024, 768);
+            root.applyCss();
+            easyButton = findButton(root, "EASY");
+            mediumButton = findButton(root, "MEDIUM");
+        });
+        show(snapshot.withRound(proverb)); // builds the game screen
+    }
+
+    @TearDown
+    public void stopToolkit() {
+        Platform.exit();
+    }
+
+    @Benchmark
+    public void round() throws Exception {
+        show(snapshot.withRound(proverb).withStatus(score, 3, Proverb.Difficulty.MEDIUM));
+        for (int seconds = ROUND_SECONDS; seconds >= 0; seconds--) {
+            show(snapshot.withSecondsRemaining(seconds));
+        }
+        show(snapshot.withRevealed("Time's up!"));
+        score += 10;
+        show(snapshot.withFeedback("Correct! +10 points").withStatus(score, 2, Proverb.Difficulty.MEDIUM));
+    }
+
+    @Benchmark
+    public void selectDifficulty() throws Exception {
+        onFxThread(() -> {
+            easyButton.fire();
+            root.applyCss();
+            mediumButton.fire();
+            root.applyCss();
+        });
+    }
+
+    // Renders next, then runs the CSS pass queued behind the render on the FX thread
+    private void show(GameSnapshot next) throws Exception {
+        snapshot = next;
+        controller.render(next);
+        onFxThread(root::applyCss);
+    }
+
+    private static Button findButton(Parent parent, String text) {
+        List<Parent> pending = new ArrayList<>();
+        pending.add(parent);
+        while (!pending.isEmpty()) {
+            for (Node node : pending.remove(pending.size() - 1).getChildrenUnmodifiable()) {
+                if (node instanceof Button && text.equals(((Button) node).getText())) {
+                    return (Button) node;
+                }
+                if (node instanceof Parent) {
+                    pending.add((Parent) node);
+                }
+            }
+        }
+        throw new IllegalStateException("No " + text + " button on the start screen");
+    }
+
+    private static void onFxThread(Runnable action) throws Exception {
+        FutureTask<Void> task = new FutureTask<>(action, null);
+        Platform.runLater(task);
+        task.get();
+    }
+}
@@ -0,0 +1,51 @@
+package com.tibebguess.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tibebguess.GameRules;
+import com.tibebguess.HeadlessGameManager;
+import com.tibebguess.Proverb;
+import com.tibebguess.ProverbCatalog;
+import com.tibebguess.VirtualGameScheduler;
+
+/**
+ * Plays full games in the headless manager: every round start, round
+ * deadline, reveal, answer and next-round transition on the virtual clock.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeadlessRoundBenchmark {
+
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public Proverb.Difficulty difficulty;
+
+    private HeadlessGameManager manager;
+
+    @Setup
+    public void setUp() {
+        manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), Players.fixed(0.7));
+        manager.initializeProverbs(ProverbCatalog.get().getProverbs());
+        manager.setDifficulty(difficulty);
+    }
+
+    @Benchmark
+    public int playGame() {
+        return manager.play();
+    }
+}
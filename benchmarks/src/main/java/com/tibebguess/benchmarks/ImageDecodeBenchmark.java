@@ -0,0 +1,56 @@
+package com.tibebguess.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.scene.image.Image;
+
+/**
+ * Decodes shipped proverb images at several requested sizes (0 is full
+ * source resolution), the work ProverbImageLoader does per cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageDecodeBenchmark {
+
+    @Param({"/images/easy/proverb1.jpg", "/images/hard/proverb18.jpg"})
+    public String image;
+
+    @Param({"0", "256", "512", "1024"})
+    public int size;
+
+    private byte[] bytes;
+
+    @Setup
+    public void readImage() throws IOException {
+        try (InputStream stream = ImageDecodeBenchmark.class.getResourceAsStream(image)) {
+            if (stream == null) {
+                throw new IllegalStateException("Image not on classpath: " + image);
+            }
+            bytes = stream.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public Image decode() {
+        return new Image(new ByteArrayInputStream(bytes), size, size, true, true);
+    }
+}
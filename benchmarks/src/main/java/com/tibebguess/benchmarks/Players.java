@@ -0,0 +1,34 @@
+package com.tibebguess.benchmarks;
+
+import java.util.SplittableRandom;
+
+import com.tibebguess.HeadlessGameManager;
+import com.tibebguess.Proverb;
+
+/**
+ * Simulated players shared by the engine benchmarks.
+ */
+final class Players {
+
+    private Players() {
+    }
+
+    /**
+     * A player who reveals halfway through each round and answers correctly
+     * with the given probability.
+     */
+    static HeadlessGameManager.Player fixed(double correctProbability) {
+        SplittableRandom random = new SplittableRandom(42);
+        return new HeadlessGameManager.Player() {
+            @Override
+            public long revealDelayMillis(Proverb proverb, int roundTimeSeconds) {
+                return roundTimeSeconds * 500L;
+            }
+
+            @Override
+            public boolean answer(Proverb proverb) {
+                return random.nextDouble() < correctProbability;
+            }
+        };
+    }
+}
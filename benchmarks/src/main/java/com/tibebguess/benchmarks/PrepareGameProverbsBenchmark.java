@@ -0,0 +1,61 @@
+package com.tibebguess.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tibebguess.GameRules;
+import com.tibebguess.HeadlessGameManager;
+import com.tibebguess.Proverb;
+import com.tibebguess.ProverbCatalog;
+import com.tibebguess.VirtualGameScheduler;
+
+/**
+ * Measures AbstractGameManager.prepareGameProverbs (reached through
+ * setDifficulty) for each difficulty and for random mode, over the shipped
+ * catalog and over a larger synthetic one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrepareGameProverbsBenchmark {
+
+    @Param({"EASY", "MEDIUM", "HARD", "RANDOM"})
+    public String difficulty;
+
+    @Param({"catalog", "10000"})
+    public String corpus;
+
+    private HeadlessGameManager manager;
+    private Proverb.Difficulty level;
+
+    @Setup
+    public void setUp() {
+        List<Proverb> proverbs = corpus.equals("catalog")
+            ? ProverbCatalog.get().getProverbs()
+            : SyntheticCorpus.proverbs(Integer.parseInt(corpus));
+        manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), Players.fixed(0.7));
+        manager.initializeProverbs(proverbs);
+        level = difficulty.equals("RANDOM") ? null : Proverb.Difficulty.valueOf(difficulty);
+    }
+
+    @Benchmark
+    public int prepareGameProverbs() {
+        manager.setDifficulty(level);
+        return manager.getTotalProverbs();
+    }
+}
@@ -0,0 +1,66 @@
+package com.tibebguess.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tibebguess.Proverb;
+import com.tibebguess.ProverbLoader;
+
+/**
+ * Parses synthetic proverb corpora of increasing size, from the shipped
+ * file's size up to a community-sized corpus. The corpus is held as UTF-8
+ * bytes in memory so the benchmark measures decoding and parsing, not disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class ProverbLoaderBenchmark {
+
+    @Param({"20", "1000", "100000", "1000000"})
+    public int lines;
+
+    private byte[] corpus;
+
+    @Setup
+    public void createCorpus() {
+        corpus = SyntheticCorpus.text(lines).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Proverb> loadFromFile() throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(corpus), StandardCharsets.UTF_8))) {
+            return ProverbLoader.parse(reader);
+        }
+    }
+
+    @Benchmark
+    public long streamWithoutMaterialising() {
+        try (Stream<Proverb> proverbs = ProverbLoader.stream(
+                new InputStreamReader(new ByteArrayInputStream(corpus), StandardCharsets.UTF_8),
+                error -> { })) {
+            return proverbs.count();
+        }
+    }
+}
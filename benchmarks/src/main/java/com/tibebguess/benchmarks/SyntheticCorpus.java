@@ -0,0 +1,39 @@
+package com.tibebguess.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tibebguess.Proverb;
+
+/**
+ * Builds synthetic proverb data in the proverbs.txt format.
+ */
+final class SyntheticCorpus {
+    private static final String[] FOLDERS = {"easy", "medium", "hard"};
+
+    private SyntheticCorpus() {
+    }
+
+    static String line(int i) {
+        String folder = FOLDERS[i % FOLDERS.length];
+        return "ፍየል ከመድረሷ ቅጠል መበጠሷ። " + i + "|/images/" + folder + "/proverb" + (i % 22 + 1) + ".jpg";
+    }
+
+    static String text(int lines) {
+        StringBuilder text = new StringBuilder(lines * 64);
+        text.append("# Synthetic benchmark corpus\n");
+        for (int i = 0; i < lines; i++) {
+            text.append(line(i)).append('\n');
+        }
+        return text.toString();
+    }
+
+    static List<Proverb> proverbs(int count) {
+        List<Proverb> proverbs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Proverb.Difficulty difficulty = Proverb.Difficulty.values()[i % FOLDERS.length];
+            proverbs.add(new Proverb("ምሳሌ " + i, "/images/" + FOLDERS[i % FOLDERS.length] + "/proverb" + (i % 22 + 1) + ".jpg", difficulty));
+        }
+        return proverbs;
+    }
+}
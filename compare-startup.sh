@@ -0,0 +1,46 @@
+#!/bin/bash
+# Compares cold-start time (process start -> first frame) of:
+#   jdk      the full JDK with the JavaFX jars on the module path (how run.sh starts the game)
+#   image    the jlink runtime image without the AppCDS archive
+#   appcds   the runtime image launcher with the AppCDS archive
+# Build first with: mvn -P runtime-image package
+# Usage: ./compare-startup.sh [runs]   (needs a display)
+
+RUNS=${1:-10}
+IMAGE=target/image
+JAVAFX=target/jlink-modules
+
+if [ ! -x "$IMAGE/runtime/bin/java" ]; then
+    echo "Runtime image not found; run: mvn -P runtime-image package"
+    exit 1
+fi
+
+MODULE_PATH=$(ls "$PWD/$JAVAFX"/javafx-*-*.jar | tr '\n' ':')
+REPORT=$(mktemp)
+trap 'rm -f "$REPORT"' EXIT
+
+measure() {
+    name=$1
+    shift
+    : > "$REPORT"
+    # Same working directory and class path as the AppCDS training run
+    for i in $(seq "$RUNS"); do
+        (cd "$IMAGE" && "$@" -Dtibeb.exitAfterStartup=true -Dtibeb.startupReport="$REPORT" \
+            -Dtibeb.assetBundle=app/assets.bundle \
+            -cp "app/*" com.tibebguess.TibebGuessApp > /dev/null 2>&1)
+    done
+    sed -n 's/.*first-frame=\([0-9]*\)ms.*/\1/p' "$REPORT" | sort -n | awk -v name="$name" '
+        { t[NR] = $1 }
+        END {
+            if (NR == 0) { print name ": no startup reports (is a display available?)"; exit }
+            printf "%-7s runs=%d  min=%dms  median=%dms  max=%dms\n", name, NR, t[1], t[int((NR + 1) / 2)], t[NR]
+        }'
+}
+
+measure jdk java --module-path "$MODULE_PATH" --add-modules javafx.controls
+measure image runtime/bin/java
+if [ -f "$IMAGE/app/tibeb-guess.jsa" ]; then
+    measure appcds runtime/bin/java -XX:SharedArchiveFile=app/tibeb-guess.jsa
+else
+    echo "appcds: no archive (built with -Dappcds.skip=true?)"
+fi
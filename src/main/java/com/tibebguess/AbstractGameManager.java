@@ -3,8 +3,8 @@ package com.tibebguess;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -13,31 +13,73 @@ import java.util.stream.Collectors;
  * Provides the reusable, core game-loop logic (encapsulation) that can be
  * reused by different kinds of proverb games. Subclasses inherit the common
  * mechanics (inheritance) and override the template hooks below to customize
- * UI behaviour (polymorphism).
+ * UI behaviour (polymorphism). Countdowns and round transitions run on a
+ * {@link GameScheduler} shared by all games rather than on a thread per round.
+ * A round ends at a fixed deadline on the scheduler's monotonic clock: one
+ * task fires at the deadline and the seconds left are computed from it, so
+ * late or bunched-up scheduler callbacks cannot stretch a round.
+ *
+ * Game state is an immutable {@link GameState} swapped in by one writer at a
+ * time: every transition runs under a per-game lock, so the FX thread and the
+ * scheduler thread never interleave inside a transition, and getters read the
+ * latest state without locking. Scheduled callbacks carry the epoch of the
+ * round they belong to and do nothing once that round is over, so a timeout
+ * that fires while an answer is being handled cannot reveal again or advance
+ * twice. Hooks are called under the lock, in transition order.
+ *
+ * With an {@link AdaptiveDifficulty} engine attached, each round's proverb
+ * and length are chosen by the engine when the round starts; the game still
+ * has as many rounds as the selected difficulty has proverbs. In learning
+ * mode ({@link SpacedRepetition}) the player's due cards are played instead,
+ * and each answer reschedules its card.
+ *
+ * Every game is shuffled from its own seed, drawn from a source that
+ * {@link #setSeed} makes deterministic; {@link #startGame(long)} replays a
+ * game from its seed, and a {@link GameEventLog} records what happened. A
+ * {@link SavedGameStore} keeps the seed, round, score and hearts at every
+ * round boundary, so {@link #resumeGame} can continue after a restart.
  */
 public abstract class AbstractGameManager {
     private static final long NEXT_ROUND_DELAY_MS = 1500;
 
-    private final int initialHearts;
-    private final int roundTimeSeconds;
-    private final int pointsPerCorrect;
-
-    private int hearts;
-    private int score;
-    private int currentIndex;
-    private int timeRemaining;
-    private boolean gameActive;
-    private Timer timer;
-    private List<Proverb> allProverbs = new ArrayList<>();
-    private List<Proverb> gameProverbs = new ArrayList<>();
-    private Proverb.Difficulty selectedDifficulty;
+    private final GameRules rules;
+    private final GameScheduler scheduler;
+    // Wall-clock time at scheduler time 0, so learning mode follows the scheduler's clock
+    private final long clockBaseMillis;
+
+    private final Object lock = new Object();
+    private volatile GameState state;
+    // Round deadline or next-round transition of the current state; guarded by lock
+    private GameScheduler.Task pendingTask;
+    private volatile List<Proverb> allProverbs = new ArrayList<>();
+    private volatile Proverb.Difficulty selectedDifficulty;
+    private volatile Random seeds = new Random();
+    private volatile GameHistory history;
+    private volatile ProverbStats stats;
+    private volatile AdaptiveDifficulty adaptive;
+    // Engine and player of the current game, or null; guarded by lock
+    private AdaptiveDifficulty gameAdaptive;
+    private AdaptiveDifficulty.Player player;
+    private volatile SpacedRepetition repetition;
+    private volatile String learner;
+    // Learning-mode game in progress, or null; guarded by lock
+    private SpacedRepetition.Session review;
+    // Records the current game, or null; guarded by lock
+    private GameEventLog.Recorder events;
+    // Seed of the current game; guarded by lock
+    private long gameSeed;
+    private volatile SavedGameStore saves;
 
     protected AbstractGameManager(int initialHearts, int roundTimeSeconds, int pointsPerCorrect) {
-        this.initialHearts = initialHearts;
-        this.roundTimeSeconds = roundTimeSeconds;
-        this.pointsPerCorrect = pointsPerCorrect;
+        this(new GameRules(initialHearts, roundTimeSeconds, pointsPerCorrect), GameScheduler.shared());
+    }
+
+    protected AbstractGameManager(GameRules rules, GameScheduler scheduler) {
+        this.rules = rules;
+        this.scheduler = scheduler;
+        this.clockBaseMillis = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(scheduler.nanoTime());
         this.selectedDifficulty = Proverb.Difficulty.MEDIUM; // default
-        resetState();
+        this.state = GameState.initial(rules.getInitialHearts(), getRoundTimeForDifficulty());
     }
 
     /**
@@ -46,9 +88,17 @@ public abstract class AbstractGameManager {
     protected abstract void onRoundStarted(Proverb proverb);
 
     /**
-     * Template hook for subclasses to update their timer UI.
+     * Template hook for subclasses to start their timer UI. The round ends at
+     * {@code deadlineNanos} on the scheduler clock ({@link GameScheduler#nanoTime()});
+     * the display should be derived from it rather than counted down.
+     */
+    protected abstract void onTimerStarted(long deadlineNanos);
+
+    /**
+     * Template hook for subclasses to freeze their timer UI when the countdown
+     * is cancelled or runs out.
      */
-    protected abstract void onTimerUpdated(int secondsRemaining);
+    protected abstract void onTimerStopped(int secondsRemaining);
 
     /**
      * Template hook for subclasses to react to score/heart changes.
@@ -76,278 +126,515 @@ public abstract class AbstractGameManager {
     protected abstract void onInitializationError(String message);
 
     /**
-     * Initializes the game with the supplied proverbs.
+     * Initializes the game with the supplied proverbs. A {@link ProverbSource}
+     * is referenced as is, so many managers can share it; any other list is
+     * copied.
      */
     public void initializeProverbs(List<Proverb> proverbList) {
-        if (proverbList == null) {
-            this.allProverbs = new ArrayList<>();
-        } else {
-            this.allProverbs = new ArrayList<>(proverbList);
+        synchronized (lock) {
+            if (proverbList == null) {
+                this.allProverbs = new ArrayList<>();
+            } else if (proverbList instanceof ProverbSource) {
+                this.allProverbs = proverbList; // immutable and shared
+            } else {
+                this.allProverbs = new ArrayList<>(proverbList);
+            }
+            prepareGameProverbs(new Random());
         }
-        prepareGameProverbs();
+    }
+
+    /**
+     * Replaces the proverb list while the game may be running (hot reload).
+     * The round in progress keeps its proverbs; the new list is used from
+     * the next game on. Safe to call from any thread.
+     */
+    public void updateProverbs(List<Proverb> proverbList) {
+        this.allProverbs = proverbList instanceof ProverbSource ? proverbList : new ArrayList<>(proverbList);
     }
 
     /**
      * Sets the selected difficulty level and prepares proverbs accordingly.
      */
     public void setDifficulty(Proverb.Difficulty difficulty) {
-        this.selectedDifficulty = difficulty;
-        prepareGameProverbs();
+        synchronized (lock) {
+            this.selectedDifficulty = difficulty;
+            prepareGameProverbs(new Random());
+        }
     }
 
     /**
      * Filters proverbs based on the selected difficulty and shuffles them for random play.
      * For null difficulty, randomly assigns images from all difficulty folders.
      */
-    private void prepareGameProverbs() {
+    private void prepareGameProverbs(Random random) {
+        state = state.withProverbs(shuffledProverbs(selectedDifficulty, random));
+    }
+
+    /**
+     * Returns the proverbs of {@code difficulty} shuffled by {@code random},
+     * without touching the game state.
+     */
+    private List<Proverb> shuffledProverbs(Proverb.Difficulty difficulty, Random random) {
+        List<Proverb> allProverbs = this.allProverbs;
         List<Proverb> baseProverbs;
-        if (selectedDifficulty == null) {
+        if (difficulty == null) {
             // For random mode, create new proverbs with random images from all folders
             List<String> allImages = getAllImagesFromResources();
             baseProverbs = new ArrayList<>();
             for (Proverb original : allProverbs) {
                 String randomImage = allImages.isEmpty() ? "/images/placeholder.jpg" : 
-                    allImages.get(new java.util.Random().nextInt(allImages.size()));
+                    allImages.get(random.nextInt(allImages.size()));
                 baseProverbs.add(new Proverb(original.getText(), randomImage, Proverb.Difficulty.MEDIUM));
             }
+        } else if (allProverbs instanceof ProverbSource) {
+            // Shuffle positions only; the shared list is neither copied nor filtered
+            return ((ProverbSource) allProverbs).shuffled(difficulty, random);
         } else {
             baseProverbs = allProverbs.stream()
-                .filter(proverb -> proverb.getDifficulty() == selectedDifficulty)
+                .filter(proverb -> proverb.getDifficulty() == difficulty)
                 .collect(Collectors.toList());
         }
-        this.gameProverbs = baseProverbs;
         // Shuffle for random order
-        Collections.shuffle(gameProverbs);
+        Collections.shuffle(baseProverbs, random);
+        return baseProverbs;
     }
     
     /**
      * Gets all available images from all difficulty folders in resources.
      */
     private List<String> getAllImagesFromResources() {
-        List<String> allImages = new ArrayList<>();
-        try {
-            // Scan each difficulty folder
-            for (Proverb.Difficulty diff : Proverb.Difficulty.values()) {
-                String dirPath = "/images/" + diff.name().toLowerCase() + "/";
-                java.util.Enumeration<java.net.URL> resources = 
-                    AbstractGameManager.class.getClassLoader().getResources("images/" + diff.name().toLowerCase());
-                
-                while (resources.hasMoreElements()) {
-                    java.net.URL resource = resources.nextElement();
-                    if (resource.getProtocol().equals("file")) {
-                        java.io.File dir = new java.io.File(resource.getFile());
-                        if (dir.exists() && dir.isDirectory()) {
-                            java.io.File[] files = dir.listFiles((file, name) -> 
-                                name.toLowerCase().endsWith(".jpg") || 
-                                name.toLowerCase().endsWith(".png") || 
-                                name.toLowerCase().endsWith(".jpeg"));
-                            if (files != null) {
-                                for (java.io.File file : files) {
-                                    allImages.add(dirPath + file.getName());
-                                }
-                            }
-                        }
-                    }
-                }
+        return ProverbCatalog.get().getAllImages();
+    }
+
+    /**
+     * Starts a new game if proverbs are available, abandoning any game in
+     * progress.
+     */
+    public void startGame() {
+        startGame(seeds.nextLong());
+    }
+
+    /**
+     * Starts a new game shuffled from {@code seed}; the same seed, proverbs
+     * and difficulty give the same game.
+     */
+    public void startGame(long seed) {
+        synchronized (lock) {
+            prepareGameProverbs(new Random(seed));
+            List<Proverb> proverbs = state.getProverbs();
+            if (proverbs.isEmpty()) {
+                onInitializationError("No proverbs available for selected difficulty level. Please choose a different level.");
+                return;
             }
-        } catch (Exception e) {
-            System.err.println("Error scanning images: " + e.getMessage());
-            // Fallback to some default images
-            allImages.add("/images/easy/image1.jpg");
-            allImages.add("/images/medium/image1.jpg");
-            allImages.add("/images/hard/image1.jpg");
+
+            beginGame(seed, proverbs, 0);
+            fireStatusChanged(state);
+            startRound(0);
         }
-        return allImages;
     }
 
     /**
-     * Starts the game if proverbs are available.
+     * Continues a game saved by a {@link SavedGameStore}: the proverbs are
+     * shuffled again from its seed and play resumes at its round with its
+     * score, hearts and time left. Returns false, leaving the difficulty and
+     * any game in progress as they were, if the proverbs have changed since or
+     * the game was already over.
      */
-    public void startGame() {
-        if (gameProverbs == null || gameProverbs.isEmpty()) {
-            onInitializationError("No proverbs available for selected difficulty level. Please choose a different level.");
-            return;
+    public boolean resumeGame(SavedGame saved) {
+        synchronized (lock) {
+            // Check the saved game against its proverbs before replacing anything
+            List<Proverb> proverbs = shuffledProverbs(saved.getDifficulty(), new Random(saved.getSeed()));
+            int index = saved.getRoundIndex();
+            if (proverbs.size() != saved.getTotalRounds() || index >= proverbs.size()
+                    || (!saved.isPicked() && proverbs.get(index).getText().hashCode() != saved.getProverbHash())
+                    || rules.isGameOver(saved.getHearts(), index, proverbs.size())) {
+                return false;
+            }
+
+            this.selectedDifficulty = saved.getDifficulty();
+            beginGame(saved.getSeed(), proverbs, GameEventLog.FLAG_RESUMED);
+            state = state.resumed(saved.getScore(), saved.getHearts(), index, saved.getOutcomes());
+            fireStatusChanged(state);
+            startRound(saved.getSecondsRemaining());
+            return true;
         }
+    }
 
-        resetState();
-        gameActive = true;
-        onStatusChanged(score, hearts);
-        startRound();
+    // Replaces the current game with a new one over proverbs; called with the lock held
+    private void beginGame(long seed, List<Proverb> proverbs, int logFlags) {
+        cancelPendingTask();
+        gameSeed = seed;
+        SpacedRepetition repetition = this.repetition;
+        review = repetition == null ? null : repetition.begin(learner, selectedDifficulty, allProverbs);
+        gameAdaptive = review == null ? adaptive : null;
+        player = gameAdaptive == null ? null : gameAdaptive.newPlayer(selectedDifficulty);
+        stopRecording();
+        state = state.newGame(proverbs, rules.getInitialHearts(), getRoundTimeForDifficulty());
+        if (events != null) {
+            int flags = logFlags | (isPicking() ? GameEventLog.FLAG_PICKED : 0);
+            events.gameStarted(scheduler.nanoTime(), seed, selectedDifficulty, flags, state.getHearts(), proverbs.size());
+        }
     }
 
     /**
-     * Begins a new round.
+     * Abandons the game in progress without calling any hooks; callbacks that
+     * are already scheduled or running are ignored.
      */
-    protected void startRound() {
-        if (!gameActive) {
-            return;
+    public void stopGame() {
+        synchronized (lock) {
+            cancelPendingTask();
+            stopRecording();
+            state = state.ended(GameState.Phase.IDLE, state.getSecondsRemaining(scheduler.nanoTime()));
         }
+    }
 
-        if (currentIndex >= gameProverbs.size()) {
+    /**
+     * Begins the round at the current index, lasting {@code seconds} or a
+     * full round if 0; called with the lock held.
+     */
+    private void startRound(int seconds) {
+        GameState current = state;
+        if (current.getCurrentIndex() >= current.getProverbs().size()) {
             finishGame();
             return;
         }
 
-        cancelTimer();
-        timeRemaining = getRoundTimeForDifficulty();
-
-        Proverb current = getCurrentProverb();
-        onRoundStarted(current);
-        onStatusChanged(score, hearts);
-        onTimerUpdated(timeRemaining);
-
-        timer = new Timer();
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                timeRemaining--;
-                onTimerUpdated(timeRemaining);
-
-                if (timeRemaining <= 0) {
-                    handleTimeUp();
-                    this.cancel();
-                }
+        int roundTime = getRoundTimeForDifficulty();
+        if (review != null) {
+            Proverb card = review.next(nowMillis());
+            if (card != null) {
+                current = current.withCurrentProverb(card);
+            }
+        } else if (player != null) {
+            AdaptiveDifficulty.Pick pick = gameAdaptive.next(player);
+            if (pick != null) {
+                current = current.withCurrentProverb(pick.getProverb());
+                roundTime = pick.getRoundSeconds();
+            }
+        }
+        if (seconds > 0) {
+            roundTime = seconds;
+        }
+        int roundSeconds = roundTime;
+        long deadline = scheduler.nanoTime() + TimeUnit.SECONDS.toNanos(roundSeconds);
+        state = current.roundStarted(deadline, roundSeconds);
+        long epoch = state.getEpoch();
+        pendingTask = scheduler.schedule(() -> onRoundDeadline(epoch), TimeUnit.SECONDS.toMillis(roundSeconds));
+        if (events != null) {
+            events.roundStarted(scheduler.nanoTime(), state.getCurrentIndex(), roundSeconds, state.getCurrentProverb());
+        }
+        saveProgress(state.getCurrentIndex(), seconds);
+
+        ProverbStats stats = this.stats;
+        if (stats != null) {
+            stats.recordShown(state.getCurrentProverb(), selectedDifficulty);
+        }
+        fireRoundStarted(state.getCurrentProverb());
+        fireStatusChanged(state);
+        long start = GameMetrics.start();
+        onTimerStarted(deadline);
+        GameMetrics.stop(GameMetrics.Metric.TIMER_STARTED, start);
+    }
+
+    private void onRoundDeadline(long epoch) {
+        synchronized (lock) {
+            GameState current = state;
+            if (current.getEpoch() != epoch || current.getPhase() != GameState.Phase.PLAYING) {
+                return; // the round was answered, revealed or replaced meanwhile
+            }
+            long late = scheduler.nanoTime() - current.getDeadlineNanos();
+            if (late < 0) {
+                // Woken early: wait out the rest rather than cut the round short
+                pendingTask = scheduler.schedule(() -> onRoundDeadline(epoch), TimeUnit.NANOSECONDS.toMillis(-late + 999_999));
+                return;
             }
-        }, 1000, 1000);
+            GameMetrics.record(GameMetrics.Metric.TIMER_JITTER, late);
+            reveal("Time's up!", false);
+        }
     }
 
     /**
-     * Handles the event when the timer hits zero.
+     * Allows the UI to reveal the answer before the timer expires. Ignored
+     * unless a round is counting down.
      */
-    protected void handleTimeUp() {
-        cancelTimer();
-        Proverb current = getCurrentProverb();
-        if (current != null) {
-            onProverbRevealed(current, "Time's up!");
+    public void revealAnswerEarly(String reason) {
+        synchronized (lock) {
+            if (state.getPhase() == GameState.Phase.PLAYING) {
+                reveal(reason, true);
+            }
+        }
+    }
+
+    // Stops the countdown and reveals the current proverb; called with the lock held
+    private void reveal(String reason, boolean early) {
+        cancelPendingTask();
+        GameState current = state;
+        long now = scheduler.nanoTime();
+        state = current.revealed(current.getSecondsRemaining(now));
+        if (events != null) {
+            events.revealed(now, early, state.getSecondsRemaining(now));
+        }
+        fireTimerStopped(state);
+        Proverb proverb = state.getCurrentProverb();
+        ProverbStats stats = this.stats;
+        if (stats != null && proverb != null) {
+            long roundStart = current.getDeadlineNanos() - TimeUnit.SECONDS.toNanos(current.getRoundSeconds());
+            stats.recordReveal(proverb, selectedDifficulty, TimeUnit.NANOSECONDS.toMillis(now - roundStart), early);
+        }
+        if (proverb != null) {
+            long start = GameMetrics.start();
+            onProverbRevealed(proverb, reason);
+            GameMetrics.stop(GameMetrics.Metric.PROVERB_REVEALED, start);
         }
     }
 
     /**
-     * Handles user answers.
+     * Handles user answers. Only the first answer of a round counts; answers
+     * outside a round are ignored.
      */
     public void handleAnswer(boolean isCorrect) {
-        cancelTimer();
+        synchronized (lock) {
+            GameState current = state;
+            if (current.getPhase() != GameState.Phase.PLAYING && current.getPhase() != GameState.Phase.REVEALED) {
+                return;
+            }
+            cancelPendingTask();
+
+            int score = current.getScore();
+            int hearts = current.getHearts();
+            if (isCorrect) {
+                score += getPointsForDifficulty();
+            } else if (hearts > 0) {
+                hearts--;
+            }
+            int secondsRemaining = current.getSecondsRemaining(scheduler.nanoTime());
+            byte outcome = (byte) ((isCorrect ? GameResult.ROUND_CORRECT : 0)
+                | (secondsRemaining == 0 ? GameResult.ROUND_TIMED_OUT : 0));
+            state = current.answered(score, hearts, secondsRemaining, outcome);
+            if (events != null) {
+                events.answered(scheduler.nanoTime(), isCorrect, score, hearts);
+            }
+            if (current.getPhase() == GameState.Phase.PLAYING) {
+                fireTimerStopped(state);
+            }
 
-        if (isCorrect) {
-            score += getPointsForDifficulty();
-        } else if (hearts > 0) {
-            hearts--;
-        }
+            long epoch = state.getEpoch();
+            pendingTask = scheduler.schedule(() -> onNextRoundDue(epoch), NEXT_ROUND_DELAY_MS);
+            saveProgress(current.getCurrentIndex() + 1, 0);
 
-        onStatusChanged(score, hearts);
-        onAnswerEvaluated(isCorrect, score, hearts);
+            ProverbStats stats = this.stats;
+            if (stats != null && current.getCurrentProverb() != null) {
+                stats.recordAnswer(current.getCurrentProverb(), selectedDifficulty, isCorrect);
+            }
+            if (player != null) {
+                double used = 1 - (double) secondsRemaining / Math.max(1, current.getRoundSeconds());
+                gameAdaptive.recordAnswer(player, isCorrect, used);
+            }
+            if (review != null) {
+                review.recordAnswer(reviewQuality(isCorrect, secondsRemaining, current.getRoundSeconds()), nowMillis());
+            }
+            fireStatusChanged(state);
+            long start = GameMetrics.start();
+            onAnswerEvaluated(isCorrect, score, hearts);
+            GameMetrics.stop(GameMetrics.Metric.ANSWER_EVALUATED, start);
+        }
+    }
 
-        new Timer().schedule(new TimerTask() {
-            @Override
-            public void run() {
+    private void onNextRoundDue(long epoch) {
+        synchronized (lock) {
+            if (state.getEpoch() == epoch && state.getPhase() == GameState.Phase.ANSWERED) {
+                pendingTask = null;
                 nextProverb();
             }
-        }, NEXT_ROUND_DELAY_MS);
+        }
     }
 
     /**
-     * Moves to the next proverb or finishes the game.
+     * Moves to the next proverb or finishes the game; called with the lock held.
      */
-    public void nextProverb() {
-        currentIndex++;
-        if (!checkGameOver()) {
-            startRound();
+    private void nextProverb() {
+        state = state.advanced();
+        GameState current = state;
+        if (rules.isGameOver(current.getHearts(), current.getCurrentIndex(), current.getProverbs().size())) {
+            finishGame();
+        } else {
+            startRound(0);
         }
     }
 
-    /**
-     * Cancels the active timer (used by the UI for early reveals).
-     */
-    public void cancelTimer() {
-        if (timer != null) {
-            timer.cancel();
-            timer = null;
+    private void finishGame() {
+        cancelPendingTask();
+        GameState current = state;
+        state = current.ended(GameState.Phase.FINISHED, current.getSecondsRemaining(scheduler.nanoTime()));
+        int total = current.getProverbs().size();
+        int completed = Math.min(current.getCurrentIndex(), total);
+        SavedGameStore saves = this.saves;
+        if (saves != null) {
+            saves.clear();
         }
+        if (events != null) {
+            events.finished(scheduler.nanoTime(), current.getScore(), current.getHearts(), completed, total);
+        }
+        GameHistory history = this.history;
+        if (history != null) {
+            history.record(new GameResult(System.currentTimeMillis(), selectedDifficulty,
+                current.getScore(), current.getHearts(), completed, total, current.getOutcomes()));
+        }
+        long start = GameMetrics.start();
+        onGameFinished(current.getScore(), current.getHearts(), completed, total);
+        GameMetrics.stop(GameMetrics.Metric.GAME_FINISHED, start);
     }
 
     /**
-     * Checks whether the game has ended.
+     * Saves the game in progress with the seconds left in the current round,
+     * e.g. when the app is closed mid-game. Games between rounds keep the
+     * snapshot taken at the last round boundary.
      */
-    protected boolean checkGameOver() {
-        if (hearts <= 0 || currentIndex >= gameProverbs.size()) {
-            finishGame();
-            return true;
+    public void saveProgress() {
+        synchronized (lock) {
+            if (state.getPhase() == GameState.Phase.PLAYING) {
+                saveProgress(state.getCurrentIndex(), Math.max(1, state.getSecondsRemaining(scheduler.nanoTime())));
+            }
         }
-        return false;
     }
 
-    private void finishGame() {
-        gameActive = false;
-        cancelTimer();
-        onGameFinished(score, hearts, Math.min(currentIndex, gameProverbs.size()), gameProverbs.size());
+    // Hands the game to the store, to resume at round index; called with the lock held
+    private void saveProgress(int index, int secondsRemaining) {
+        SavedGameStore saves = this.saves;
+        GameState current = state;
+        if (saves == null || rules.isGameOver(current.getHearts(), index, current.getProverbs().size())) {
+            return; // nothing left to resume
+        }
+        boolean picked = isPicking();
+        int hash = picked ? 0 : current.getProverbs().get(index).getText().hashCode();
+        saves.save(new SavedGame(System.currentTimeMillis(), gameSeed, selectedDifficulty,
+            picked ? SavedGame.FLAG_PICKED : 0, current.getScore(), current.getHearts(), index,
+            current.getProverbs().size(), secondsRemaining, hash, current.getOutcomes()));
+    }
+
+    // Whether a mode picks the proverbs of the current game; called with the lock held
+    private boolean isPicking() {
+        return review != null || player != null;
     }
 
-    private void resetState() {
-        hearts = initialHearts;
-        score = 0;
-        currentIndex = 0;
-        timeRemaining = getRoundTimeForDifficulty();
-        cancelTimer();
+    // Logs the game in progress, if any, as stopped; called with the lock held
+    private void stopRecording() {
+        if (events != null) {
+            events.stopped(scheduler.nanoTime());
+        }
+    }
+
+    private void cancelPendingTask() {
+        if (pendingTask != null) {
+            pendingTask.cancel();
+            pendingTask = null;
+        }
+    }
+
+    // Hook calls below are timed when GameMetrics is enabled
+    private void fireRoundStarted(Proverb proverb) {
+        long start = GameMetrics.start();
+        onRoundStarted(proverb);
+        GameMetrics.stop(GameMetrics.Metric.ROUND_STARTED, start);
+    }
+
+    private void fireStatusChanged(GameState current) {
+        long start = GameMetrics.start();
+        onStatusChanged(current.getScore(), current.getHearts());
+        GameMetrics.stop(GameMetrics.Metric.STATUS_CHANGED, start);
+    }
+
+    private void fireTimerStopped(GameState current) {
+        long start = GameMetrics.start();
+        onTimerStopped(current.getSecondsRemaining(scheduler.nanoTime()));
+        GameMetrics.stop(GameMetrics.Metric.TIMER_STOPPED, start);
     }
 
     /**
-     * Gets the round time based on difficulty level.
+     * SM-2 quality of an answer: 5 when solved with at least half the round
+     * left, 4 when solved later, 3 when solved after time ran out, 1 when
+     * missed.
      */
-    private int getRoundTimeForDifficulty() {
-        switch (selectedDifficulty) {
-            case EASY:
-                return roundTimeSeconds; // 30 seconds for easy
-            case MEDIUM:
-                return roundTimeSeconds-10; // 20 seconds for medium
-            case HARD:
-                return roundTimeSeconds-15 ; // 15 seconds for hard
-            default:
-                return roundTimeSeconds;
+    private static int reviewQuality(boolean correct, int secondsRemaining, int roundSeconds) {
+        if (!correct) {
+            return 1;
         }
+        return secondsRemaining == 0 ? 3 : secondsRemaining * 2 >= roundSeconds ? 5 : 4;
     }
 
     /**
-     * Gets the points awarded for correct answers based on difficulty level.
+     * Wall-clock milliseconds advanced by the scheduler's clock, so games on
+     * a {@link VirtualGameScheduler} schedule reviews in virtual time.
      */
+    private long nowMillis() {
+        return clockBaseMillis + TimeUnit.NANOSECONDS.toMillis(scheduler.nanoTime());
+    }
+
+    private int getRoundTimeForDifficulty() {
+        return rules.getRoundTimeSeconds(selectedDifficulty);
+    }
+
     private int getPointsForDifficulty() {
-        switch (selectedDifficulty) {
-            case EASY:
-                return pointsPerCorrect; // 10 points for easy
-            case MEDIUM:
-                return pointsPerCorrect + 5; // 15 points for medium
-            case HARD:
-                return pointsPerCorrect + 10; // 20 points for hard
-            default:
-                return pointsPerCorrect;
-        }
+        return rules.getPointsForCorrect(selectedDifficulty);
+    }
+
+    // Encapsulated getters; each reads one consistent state without locking
+    public GameState getState() {
+        return state;
     }
 
-    // Encapsulated getters
     public int getHearts() {
-        return hearts;
+        return state.getHearts();
     }
 
     public int getScore() {
-        return score;
+        return state.getScore();
     }
 
     public int getCurrentIndex() {
-        return currentIndex;
+        return state.getCurrentIndex();
     }
 
     public int getTotalProverbs() {
-        return gameProverbs.size();
+        return state.getProverbs().size();
     }
 
+    /**
+     * Returns the whole seconds left in the round, rounded up, or where the
+     * countdown stopped if it is not running.
+     */
     public int getTimeRemaining() {
-        return timeRemaining;
+        return state.getSecondsRemaining(scheduler.nanoTime());
     }
 
     public Proverb getCurrentProverb() {
-        if (gameProverbs == null || gameProverbs.isEmpty() || currentIndex >= gameProverbs.size()) {
-            return null;
+        return state.getCurrentProverb();
+    }
+
+    /**
+     * Returns up to {@code count} proverbs that follow the current one, so the
+     * UI can prepare their images ahead of time.
+     */
+    public List<Proverb> getUpcomingProverbs(int count) {
+        GameState current;
+        synchronized (lock) {
+            if (gameAdaptive != null || review != null) {
+                return Collections.emptyList(); // not chosen until their rounds start
+            }
+            current = state;
         }
-        return gameProverbs.get(currentIndex);
+        List<Proverb> proverbs = current.getProverbs();
+        int from = Math.min(current.getCurrentIndex() + 1, proverbs.size());
+        int to = Math.min(from + count, proverbs.size());
+        return new ArrayList<>(proverbs.subList(from, to));
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
+
+    protected GameScheduler getScheduler() {
+        return scheduler;
     }
 
     public Proverb.Difficulty getSelectedDifficulty() {
@@ -355,14 +642,63 @@ public abstract class AbstractGameManager {
     }
 
     /**
-     * Allows the UI to reveal the answer before the timer expires.
+     * Records every game finished from now on in {@code history}; null stops
+     * recording.
      */
-    public void revealAnswerEarly(String reason) {
-        cancelTimer();
-        Proverb current = getCurrentProverb();
-        if (current != null) {
-            onProverbRevealed(current, reason);
+    public void setGameHistory(GameHistory history) {
+        this.history = history;
+    }
+
+    /**
+     * Counts shows, reveals and answers of each proverb in {@code stats} from
+     * now on; null stops counting.
+     */
+    public void setProverbStats(ProverbStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Lets {@code adaptive} choose the proverb and length of every round from
+     * the next game on; null goes back to the shuffled list and fixed times.
+     */
+    public void setAdaptiveDifficulty(AdaptiveDifficulty adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Draws the seed of every following game from {@code seed}, so the same
+     * seed, proverbs and player actions play the same games.
+     */
+    public void setSeed(long seed) {
+        this.seeds = new Random(seed);
+    }
+
+    /**
+     * Appends every game from the next one on to {@code log}; null stops
+     * logging.
+     */
+    public void setEventLog(GameEventLog log) {
+        synchronized (lock) {
+            stopRecording();
+            this.events = log == null ? null : log.newRecorder();
         }
     }
-}
 
+    /**
+     * Saves every game in progress to {@code saves} at each round boundary so
+     * it can be resumed with {@link #resumeGame}; null stops saving.
+     */
+    public void setSavedGameStore(SavedGameStore saves) {
+        this.saves = saves;
+    }
+
+    /**
+     * Plays {@code learner}'s due cards from {@code repetition} from the next
+     * game on, ahead of any adaptive engine; a null store goes back to the
+     * shuffled list.
+     */
+    public void setSpacedRepetition(SpacedRepetition repetition, String learner) {
+        this.learner = learner;
+        this.repetition = repetition;
+    }
+}
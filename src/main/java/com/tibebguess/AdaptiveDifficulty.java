@@ -0,0 +1,287 @@
+package com.tibebguess;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * AdaptiveDifficulty
+ *
+ * Picks each player's next proverb and round length from how players
+ * actually do instead of the folder a proverb came from. Every proverb keeps
+ * a moving average of its solve rate and of how much of the round passes
+ * before it is revealed; together they give a difficulty between 0 and 1
+ * that starts from its labelled difficulty and follows live results. Each
+ * player has a skill on the same scale that rises with right answers and
+ * falls with wrong ones, and gets proverbs they should solve about two times
+ * in three.
+ *
+ * Updates are O(1) plus O(log B) to move the proverb between the B
+ * difficulty bins; the bins are indexed by a Fenwick tree, so picking a
+ * random proverb near a target difficulty is O(log B) regardless of corpus
+ * size. One engine can be shared by every session; it is thread-safe.
+ */
+public final class AdaptiveDifficulty {
+    private static final int BINS = 256;
+    private static final double SOLVE_WEIGHT = 0.75;
+    private static final double REVEAL_WEIGHT = 0.25;
+    /** Prior results count as this many answers before live ones take over. */
+    private static final int PRIOR_ANSWERS = 3;
+    /** Moving averages follow roughly the last this many answers. */
+    private static final int WINDOW = 50;
+    /** Slope of the expected-success curve over (skill - difficulty). */
+    private static final double SLOPE = 8;
+    private static final double SKILL_STEP = 0.15;
+    private static final double TARGET_SUCCESS = 0.65;
+    private static final double TARGET_OFFSET = Math.log(TARGET_SUCCESS / (1 - TARGET_SUCCESS)) / SLOPE;
+    private static final int MAX_TRIES = 8;
+
+    /**
+     * One player's skill and the proverbs they have had this game.
+     */
+    public static final class Player {
+        private double skill;
+        private final BitSet seen = new BitSet();
+        private int seenCount;
+        private int lastId = -1;
+
+        Player(double skill) {
+            this.skill = skill;
+        }
+
+        public double getSkill() {
+            return skill;
+        }
+    }
+
+    /**
+     * The proverb chosen for a round and how long the round should last.
+     */
+    public static final class Pick {
+        private final Proverb proverb;
+        private final int roundSeconds;
+
+        Pick(Proverb proverb, int roundSeconds) {
+            this.proverb = proverb;
+            this.roundSeconds = roundSeconds;
+        }
+
+        public Proverb getProverb() {
+            return proverb;
+        }
+
+        public int getRoundSeconds() {
+            return roundSeconds;
+        }
+    }
+
+    private final List<Proverb> catalog;
+    private final int minSeconds;
+    private final int maxSeconds;
+    private final Random random;
+
+    // Per proverb, indexed by position in the catalog
+    private final double[] solveRate;
+    private final double[] revealFraction;
+    private final int[] answers;
+    private final int[] binOf;
+    private final int[] slotInBin;
+
+    // Members of each bin (swap-removed) and a Fenwick tree over bin sizes
+    private final int[][] binMembers = new int[BINS][];
+    private final int[] binSize = new int[BINS];
+    private final int[] tree = new int[BINS + 1];
+
+    public AdaptiveDifficulty(List<Proverb> catalog, GameRules rules, Random random) {
+        this.catalog = catalog;
+        this.random = random;
+        this.minSeconds = rules.getRoundTimeSeconds(Proverb.Difficulty.HARD);
+        this.maxSeconds = rules.getRoundTimeSeconds(Proverb.Difficulty.EASY);
+        int count = catalog.size();
+        solveRate = new double[count];
+        revealFraction = new double[count];
+        answers = new int[count];
+        binOf = new int[count];
+        slotInBin = new int[count];
+        for (int bin = 0; bin < BINS; bin++) {
+            binMembers[bin] = new int[4];
+        }
+        for (int id = 0; id < count; id++) {
+            Proverb.Difficulty label = proverbDifficulty(id);
+            solveRate[id] = label == Proverb.Difficulty.EASY ? 0.8 : label == Proverb.Difficulty.HARD ? 0.2 : 0.5;
+            revealFraction[id] = label == Proverb.Difficulty.EASY ? 0.4 : label == Proverb.Difficulty.HARD ? 0.6 : 0.5;
+            insert(id, bin(difficulty(id)));
+        }
+    }
+
+    /**
+     * Starts tracking a player whose skill starts at the level they chose
+     * (null for random mode).
+     */
+    public Player newPlayer(Proverb.Difficulty chosen) {
+        double skill = chosen == Proverb.Difficulty.EASY ? 0.3 : chosen == Proverb.Difficulty.HARD ? 0.7 : 0.5;
+        return new Player(skill);
+    }
+
+    /**
+     * Picks a proverb the player has not had yet near the difficulty that
+     * suits them, or null once they have had every proverb.
+     */
+    public synchronized Pick next(Player player) {
+        if (player.seenCount >= catalog.size()) {
+            return null;
+        }
+        double target = clamp(player.skill - TARGET_OFFSET);
+        int id = -1;
+        for (double width = 0.05; id < 0; width *= 2) {
+            int from = bin(target - width);
+            int to = bin(target + width);
+            int candidates = prefix(to) - prefix(from - 1);
+            for (int tries = 0; tries < MAX_TRIES && candidates > 0 && id < 0; tries++) {
+                int candidate = select(prefix(from - 1) + random.nextInt(candidates));
+                if (!player.seen.get(candidate)) {
+                    id = candidate;
+                }
+            }
+            if (id < 0 && from == 0 && to == BINS - 1) {
+                id = nearestUnseen(player, bin(target)); // every try hit a seen proverb
+            }
+        }
+        player.seen.set(id);
+        player.seenCount++;
+        player.lastId = id;
+        // Stronger players get less time; proverbs usually revealed late get more
+        double seconds = (maxSeconds - (maxSeconds - minSeconds) * player.skill) * (0.75 + 0.5 * revealFraction[id]);
+        int roundSeconds = (int) Math.max(minSeconds, Math.min(maxSeconds, Math.round(seconds)));
+        return new Pick(catalog.get(id), roundSeconds);
+    }
+
+    /**
+     * Records the answer to the player's last pick; {@code usedFraction} is
+     * how much of the round had passed when the proverb was revealed.
+     */
+    public synchronized void recordAnswer(Player player, boolean correct, double usedFraction) {
+        int id = player.lastId;
+        if (id < 0) {
+            return;
+        }
+        player.lastId = -1;
+        double expected = 1 / (1 + Math.exp(-SLOPE * (player.skill - difficulty(id))));
+        player.skill = clamp(player.skill + SKILL_STEP * ((correct ? 1 : 0) - expected));
+
+        double weight = 1.0 / Math.min(++answers[id] + PRIOR_ANSWERS, WINDOW);
+        solveRate[id] += weight * ((correct ? 1 : 0) - solveRate[id]);
+        revealFraction[id] += weight * (clamp(usedFraction) - revealFraction[id]);
+        int bin = bin(difficulty(id));
+        if (bin != binOf[id]) {
+            remove(id);
+            insert(id, bin);
+        }
+    }
+
+    /**
+     * Returns the current difficulty of the proverb at {@code index} in the
+     * catalog, 0 (easiest) to 1.
+     */
+    public synchronized double getDifficulty(int index) {
+        return difficulty(index);
+    }
+
+    private double difficulty(int id) {
+        return SOLVE_WEIGHT * (1 - solveRate[id]) + REVEAL_WEIGHT * revealFraction[id];
+    }
+
+    /**
+     * Returns an unseen proverb from the bin nearest {@code target}, scanning
+     * outwards; the player must have one left.
+     */
+    private int nearestUnseen(Player player, int target) {
+        for (int distance = 0; distance < BINS; distance++) {
+            int id = firstUnseen(player, target - distance);
+            if (id < 0 && distance > 0) {
+                id = firstUnseen(player, target + distance);
+            }
+            if (id >= 0) {
+                return id;
+            }
+        }
+        throw new IllegalStateException("No unseen proverb left");
+    }
+
+    private int firstUnseen(Player player, int bin) {
+        if (bin < 0 || bin >= BINS) {
+            return -1;
+        }
+        int[] members = binMembers[bin];
+        for (int slot = 0; slot < binSize[bin]; slot++) {
+            if (!player.seen.get(members[slot])) {
+                return members[slot];
+            }
+        }
+        return -1;
+    }
+
+    private Proverb.Difficulty proverbDifficulty(int id) {
+        return catalog instanceof ProverbPack ? ((ProverbPack) catalog).difficultyAt(id) : catalog.get(id).getDifficulty();
+    }
+
+    private void insert(int id, int bin) {
+        int[] members = binMembers[bin];
+        if (binSize[bin] == members.length) {
+            members = Arrays.copyOf(members, members.length * 2);
+            binMembers[bin] = members;
+        }
+        members[binSize[bin]] = id;
+        slotInBin[id] = binSize[bin]++;
+        binOf[id] = bin;
+        add(bin, 1);
+    }
+
+    private void remove(int id) {
+        int bin = binOf[id];
+        int slot = slotInBin[id];
+        int last = binMembers[bin][--binSize[bin]];
+        binMembers[bin][slot] = last;
+        slotInBin[last] = slot;
+        add(bin, -1);
+    }
+
+    // Fenwick tree over bin sizes, 1-based internally
+    private void add(int bin, int delta) {
+        for (int i = bin + 1; i <= BINS; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /** Proverbs in bins 0..bin; 0 for bin -1. */
+    private int prefix(int bin) {
+        int sum = 0;
+        for (int i = bin + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /** Returns the proverb with the given rank in bin order. */
+    private int select(int rank) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(BINS); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= BINS && tree[next] <= rank) {
+                position = next;
+                rank -= tree[next];
+            }
+        }
+        // position is the number of bins before the one holding the rank
+        return binMembers[position][rank];
+    }
+
+    private static int bin(double difficulty) {
+        return (int) Math.min(BINS - 1, Math.max(0, Math.floor(clamp(difficulty) * BINS)));
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+}
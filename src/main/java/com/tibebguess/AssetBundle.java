@@ -0,0 +1,203 @@
+package com.tibebguess;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AssetBundle
+ *
+ * All game images packed into one uncompressed file and memory-mapped, so an
+ * image read is a {@link ByteBuffer} slice of the mapping instead of a jar
+ * entry lookup and inflate. Bundles are written by {@link AssetBundler}.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * header  magic "TBAB", u16 version, u16 reserved, i32 count, i32 alignment
+ * index   count x (u16 pathLength, path (UTF-8), i64 offset, i64 length)
+ * data    entries, each starting on an alignment boundary
+ * </pre>
+ *
+ * The bundle used by the game is taken from the {@code tibeb.assetBundle}
+ * system property, or {@code assets.bundle} in the working directory, or
+ * {@code assets.bundle} next to the game jar (next to target/classes when
+ * run from the build); when none exists assets are read from the classpath
+ * as before. An external
+ * image directory ({@code tibeb.imageDir}, mirroring the images/ folder)
+ * takes precedence over both so organisers can add images while running.
+ */
+public final class AssetBundle {
+    public static final String BUNDLE_PROPERTY = "tibeb.assetBundle";
+    public static final String DEFAULT_FILE_NAME = "assets.bundle";
+    public static final String IMAGE_DIR_PROPERTY = "tibeb.imageDir";
+    private static final String IMAGES_PREFIX = "/images/";
+    static final int MAGIC = 0x54424142; // "TBAB"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    private static final class Holder {
+        static final AssetBundle DEFAULT = openDefault();
+    }
+
+    private final ByteBuffer data;
+    private final Map<String, int[]> index;
+
+    private AssetBundle(ByteBuffer data) throws IOException {
+        this.data = data;
+        if (data.limit() < HEADER_SIZE || data.getInt(0) != MAGIC || data.getShort(4) != VERSION) {
+            throw new IOException("Not an asset bundle");
+        }
+        int count = data.getInt(8);
+        Map<String, int[]> entries = new HashMap<>(count * 2);
+        ByteBuffer cursor = data.duplicate();
+        cursor.position(HEADER_SIZE);
+        for (int i = 0; i < count; i++) {
+            byte[] path = new byte[cursor.getShort() & 0xFFFF];
+            cursor.get(path);
+            long offset = cursor.getLong();
+            long length = cursor.getLong();
+            if (offset < 0 || length < 0 || offset + length > data.limit()) {
+                throw new IOException("Corrupt asset bundle index");
+            }
+            entries.put(new String(path, StandardCharsets.UTF_8), new int[] {(int) offset, (int) length});
+        }
+        this.index = entries;
+    }
+
+    /**
+     * Maps a bundle file read-only.
+     */
+    public static AssetBundle open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Asset bundle larger than 2 GB: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new AssetBundle(mapped);
+        }
+    }
+
+    /**
+     * Returns the bundle configured for this process, or null if there is none.
+     */
+    public static AssetBundle getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    private static AssetBundle openDefault() {
+        String configured = System.getProperty(BUNDLE_PROPERTY);
+        Path file = configured != null && !configured.isBlank() ? Paths.get(configured) : Paths.get(DEFAULT_FILE_NAME);
+        if (configured == null && !Files.isRegularFile(file)) {
+            Path packaged = nextToCode();
+            if (packaged != null) {
+                file = packaged;
+            }
+        }
+        if (!Files.isRegularFile(file)) {
+            if (configured != null) {
+                System.err.println("Asset bundle not found: " + file);
+            }
+            return null;
+        }
+        try {
+            return open(file);
+        } catch (IOException e) {
+            System.err.println("Error opening asset bundle " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns {@code assets.bundle} in the directory holding the game jar, or
+     * holding the classes directory, or null if the location is unknown.
+     */
+    private static Path nextToCode() {
+        try {
+            CodeSource source = AssetBundle.class.getProtectionDomain().getCodeSource();
+            if (source == null || source.getLocation() == null) {
+                return null;
+            }
+            Path parent = Paths.get(source.getLocation().toURI()).getParent();
+            return parent == null ? null : parent.resolve(DEFAULT_FILE_NAME);
+        } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException | SecurityException e) {
+            return null; // not a file location, e.g. a jrt: or nested jar URL
+        }
+    }
+
+    /**
+     * Opens an asset by resource path: from the external image directory if
+     * it has the file, then the default bundle, then the classpath. Returns
+     * null if not found.
+     */
+    public static InputStream openAsset(String path) throws IOException {
+        Path external = externalImage(path);
+        if (external != null && Files.isRegularFile(external)) {
+            return Files.newInputStream(external);
+        }
+        AssetBundle bundle = getDefault();
+        if (bundle != null) {
+            ByteBuffer slice = bundle.get(path);
+            if (slice != null) {
+                return new ByteBufferInputStream(slice);
+            }
+        }
+        return AssetBundle.class.getResourceAsStream(path);
+    }
+
+    /**
+     * Maps an {@code /images/...} resource path into the external image
+     * directory, or returns null when none is configured.
+     */
+    public static Path externalImage(String path) {
+        String dir = System.getProperty(IMAGE_DIR_PROPERTY);
+        if (dir == null || dir.isBlank() || !path.startsWith(IMAGES_PREFIX)) {
+            return null;
+        }
+        Path root = Paths.get(dir).toAbsolutePath().normalize();
+        Path file = root.resolve(path.substring(IMAGES_PREFIX.length())).normalize();
+        return file.startsWith(root) ? file : null;
+    }
+
+    /**
+     * Returns the resource path for a file inside the external image
+     * directory, the inverse of {@link #externalImage}.
+     */
+    public static String resourcePathOf(Path imageDir, Path file) {
+        return IMAGES_PREFIX + imageDir.relativize(file).toString().replace('\\', '/');
+    }
+
+    /**
+     * Returns a read-only view of the asset's bytes inside the mapping, or
+     * null if the bundle does not contain it. No bytes are copied.
+     */
+    public ByteBuffer get(String path) {
+        int[] entry = index.get(path);
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer slice = data.duplicate();
+        slice.position(entry[0]);
+        slice.limit(entry[0] + entry[1]);
+        return slice.slice().asReadOnlyBuffer();
+    }
+
+    public boolean contains(String path) {
+        return index.containsKey(path);
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
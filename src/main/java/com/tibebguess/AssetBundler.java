@@ -0,0 +1,100 @@
+package com.tibebguess;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * AssetBundler
+ *
+ * Build-time tool (bound to the Maven process-classes phase) that packs every
+ * image under the resources images/ folder into one uncompressed
+ * {@link AssetBundle}, each entry aligned to a page boundary.
+ *
+ * Usage: AssetBundler &lt;resourcesDir&gt; &lt;outputFile&gt;
+ */
+public final class AssetBundler {
+    private static final int ALIGNMENT = 4096;
+
+    private AssetBundler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: AssetBundler <resourcesDir> <outputFile>");
+            System.exit(1);
+        }
+        Path output = Paths.get(args[1]);
+        int count = bundle(Paths.get(args[0]), output);
+        System.out.println("Wrote asset bundle with " + count + " images to " + output);
+    }
+
+    /**
+     * Writes all images below {@code resourcesDir/images} into {@code output}.
+     */
+    public static int bundle(Path resourcesDir, Path output) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(resourcesDir.resolve("images"))) {
+            files = walk.filter(Files::isRegularFile)
+                .filter(file -> {
+                    String name = file.getFileName().toString().toLowerCase();
+                    return name.endsWith(".jpg") || name.endsWith(".png") || name.endsWith(".jpeg");
+                })
+                .sorted()
+                .collect(Collectors.toList());
+        }
+
+        List<byte[]> paths = new ArrayList<>(files.size());
+        int indexSize = 0;
+        for (Path file : files) {
+            String resourcePath = "/" + resourcesDir.relativize(file).toString().replace('\\', '/');
+            byte[] path = resourcePath.getBytes(StandardCharsets.UTF_8);
+            paths.add(path);
+            indexSize += 2 + path.length + 16;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(AssetBundle.HEADER_SIZE + indexSize);
+        header.putInt(AssetBundle.MAGIC).putShort(AssetBundle.VERSION).putShort((short) 0)
+            .putInt(files.size()).putInt(ALIGNMENT);
+        long offset = align(header.capacity());
+        long[] offsets = new long[files.size()];
+        for (int i = 0; i < files.size(); i++) {
+            long length = Files.size(files.get(i));
+            offsets[i] = offset;
+            header.putShort((short) paths.get(i).length).put(paths.get(i)).putLong(offset).putLong(length);
+            offset = align(offset + length);
+        }
+        header.flip();
+
+        Path absolute = output.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.write(header, 0);
+            for (int i = 0; i < files.size(); i++) {
+                ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(files.get(i)));
+                long position = offsets[i];
+                while (bytes.hasRemaining()) {
+                    position += channel.write(bytes, position);
+                }
+            }
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return files.size();
+    }
+
+    private static long align(long position) {
+        return (position + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
@@ -0,0 +1,101 @@
+package com.tibebguess;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * CatalogGenerator
+ *
+ * Build-time tool (bound to the Maven process-classes phase) that writes the
+ * {@link ProverbCatalog} index from the resources directory: every proverb
+ * in proverbs.txt and every image under images/&lt;difficulty&gt;/ with its
+ * file size and pixel dimensions.
+ *
+ * Usage: CatalogGenerator &lt;resourcesDir&gt; &lt;outputFile&gt;
+ */
+public final class CatalogGenerator {
+
+    private CatalogGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CatalogGenerator <resourcesDir> <outputFile>");
+            System.exit(1);
+        }
+        Path resources = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+
+        int images = 0;
+        int proverbs = 0;
+        try (Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            out.write("# Tibeb Guess catalog v1 - generated at build time, do not edit\n");
+
+            for (Proverb.Difficulty difficulty : Proverb.Difficulty.values()) {
+                String folder = difficulty.name().toLowerCase();
+                File[] files = resources.resolve("images").resolve(folder).toFile().listFiles((dir, name) ->
+                    name.toLowerCase().endsWith(".jpg") ||
+                    name.toLowerCase().endsWith(".png") ||
+                    name.toLowerCase().endsWith(".jpeg"));
+                if (files == null) {
+                    continue;
+                }
+                Arrays.sort(files);
+                for (File file : files) {
+                    int[] size = readDimensions(file);
+                    out.write("I\t" + difficulty + "\t/images/" + folder + "/" + file.getName() + "\t"
+                        + file.length() + "\t" + size[0] + "\t" + size[1] + "\n");
+                    images++;
+                }
+            }
+
+            Path proverbFile = resources.resolve("proverbs.txt");
+            if (Files.exists(proverbFile)) {
+                List<Proverb> parsed;
+                try (BufferedReader reader = Files.newBufferedReader(proverbFile, StandardCharsets.UTF_8)) {
+                    parsed = ProverbLoader.parse(reader);
+                }
+                for (Proverb proverb : parsed) {
+                    out.write("P\t" + proverb.getDifficulty() + "\t" + proverb.getImagePath() + "\t"
+                        + proverb.getText().replace('\t', ' ') + "\n");
+                    proverbs++;
+                }
+            }
+        }
+        System.out.println("Wrote catalog with " + proverbs + " proverbs and " + images + " images to " + output);
+    }
+
+    /**
+     * Reads width and height from the image header without decoding pixels.
+     */
+    private static int[] readDimensions(File file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                System.err.println("No image reader for " + file);
+                return new int[] {0, 0};
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return new int[] {reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
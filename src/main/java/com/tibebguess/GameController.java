@@ -1,8 +1,17 @@
 package com.tibebguess;
 
 import java.io.InputStream;
-
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
+import javafx.css.PseudoClass;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -27,7 +36,23 @@ import javafx.stage.Stage;
 public class GameController {
 
     private static final String ANSWER_HINT_TEXT = "\"Show Answer\" በሚጠቀሙ ጊዜ ይታያል።";
-    private Font amharicFont;
+    private static final int PREFETCH_COUNT = 2;
+    private static final double IMAGE_AREA_RATIO = 0.55;
+    private static final int IMAGE_INSET = 40;
+    private static final int IMAGE_SIZE_BUCKET = 128;
+
+    // State styling lives in styles.css; toggling these avoids re-parsing inline styles
+    private static final PseudoClass SELECTED = PseudoClass.getPseudoClass("selected");
+    private static final PseudoClass WARNING = PseudoClass.getPseudoClass("warning");
+    private static final PseudoClass CRITICAL = PseudoClass.getPseudoClass("critical");
+    private static final PseudoClass LAST_HEART = PseudoClass.getPseudoClass("last-heart");
+    private static final PseudoClass NO_HEARTS = PseudoClass.getPseudoClass("no-hearts");
+    private static final PseudoClass EASY = PseudoClass.getPseudoClass("easy");
+    private static final PseudoClass MEDIUM = PseudoClass.getPseudoClass("medium");
+    private static final PseudoClass HARD = PseudoClass.getPseudoClass("hard");
+    private static final PseudoClass RANDOM = PseudoClass.getPseudoClass("random");
+    private final Executor loader;
+    private final CompletableFuture<Font> fontLoad;
     private Label answerTitle;
 
     // Screens
@@ -47,12 +72,40 @@ public class GameController {
     private Button correctButton;
     private Button wrongButton;
     private Button showAnswerButton;
+    private Button startButton;
+    private Button resumeButton;
+    // Difficulty buttons of the start screen; random mode has none
+    private final Map<Proverb.Difficulty, Button> levelButtons = new EnumMap<>(Proverb.Difficulty.class);
     private Label feedbackLabel;
+    private final ProverbImageLoader imageLoader = new ProverbImageLoader();
+    private volatile Proverb displayedProverb;
+    private volatile int imageDecodeWidth;
+    private volatile int imageDecodeHeight;
+
+    // Latest snapshot from the game manager and the one currently on screen
+    private final AtomicReference<GameSnapshot> pendingSnapshot = new AtomicReference<>();
+    private final AtomicBoolean renderScheduled = new AtomicBoolean();
+    private GameSnapshot renderedSnapshot;
+
+    // Runs while a round counts down; the timer label is derived from the deadline each pulse
+    private final AnimationTimer countdown = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            showSecondsRemaining(renderedSnapshot.getSecondsRemaining(now));
+        }
+    };
+    private int shownSeconds = -1;
 
     // Status labels
     private Label timerLabel;
     private Label scoreLabel;
     private Label heartsLabel;
+    private Label difficultyLabel;
+
+    // Result labels
+    private Label finalScoreLabel;
+    private Label heartsMessage;
+    private Label difficultyResultLabel;
 
     private boolean answerRevealed;
 
@@ -60,9 +113,16 @@ public class GameController {
     private StackPane root;
     private AbstractGameManager gameManager;
 
-    public GameController(Stage primaryStage) {
+    /**
+     * Builds the start screen only; the font and logo are loaded on
+     * {@code loader} and the game and result screens are built on first use.
+     */
+    public GameController(Stage primaryStage, Executor loader) {
         this.root = new StackPane();
         this.answerRevealed = false;
+        this.fontLoad = CompletableFuture.supplyAsync(this::loadAmharicFont, loader);
+        this.loader = loader;
+        GameMetrics.watchImageCache(imageLoader.getCache());
         initializeUI();
     }
 
@@ -70,44 +130,122 @@ public class GameController {
         this.gameManager = gameManager;
     }
 
-    // Initialize UI screens and layout
-    private void initializeUI() {
-        // Load Amharic font
-        // Force the JVM to recognize the Ethiopic font family
-    try (InputStream is = getClass().getResourceAsStream("/fonts/NotoSansEthiopic-Regular.ttf")) {
-        if (is != null) {
-            amharicFont = Font.loadFont(is, 12); // This registers "Noto Sans Ethiopic" globally
-            System.out.println("Loaded Amharic font: " + (amharicFont != null ? amharicFont.getFamily() : "null"));
-        }
-    } catch (Exception e) {
-        System.err.println("Could not load Amharic font: " + e.getMessage());
+    /**
+     * Enables the start button once the game manager has its proverbs.
+     */
+    public void setProverbsLoaded() {
+        startButton.setDisable(false);
     }
 
-    // Existing CSS loading
-    root.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
+    // Initialize UI screens and layout
+    private void initializeUI() {
+        // Existing CSS loading
+        root.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
 
         // Root gradient
-        root.setStyle("-fx-background-color: linear-gradient(to bottom, #667eea 0%, #764ba2 100%);");
+        root.getStyleClass().add("app-root");
 
-        // Screens
+        // Only the start screen is needed for the first frame
         startScreen = createStartScreen();
-        gameScreen = createGameScreen(amharicFont);
+        root.getChildren().add(startScreen);
+
+        root.widthProperty().addListener((obs, oldValue, newValue) -> updateImageDecodeSize());
+        root.heightProperty().addListener((obs, oldValue, newValue) -> updateImageDecodeSize());
+    }
+
+    // Load Amharic font
+    private Font loadAmharicFont() {
+        // Force the JVM to recognize the Ethiopic font family
+        try (InputStream is = getClass().getResourceAsStream("/fonts/NotoSansEthiopic-Regular.ttf")) {
+            if (is != null) {
+                Font font = Font.loadFont(is, 12); // This registers "Noto Sans Ethiopic" globally
+                System.out.println("Loaded Amharic font: " + (font != null ? font.getFamily() : "null"));
+                return font;
+            }
+        } catch (Exception e) {
+            System.err.println("Could not load Amharic font: " + e.getMessage());
+        } finally {
+            StartupReport.mark(StartupReport.FONT);
+        }
+        return null;
+    }
+
+    private void ensureGameScreen() {
+        if (gameScrollPane != null) {
+            return;
+        }
+        gameScreen = createGameScreen();
+        if (fontLoad.isDone() && !fontLoad.isCompletedExceptionally()) {
+            // Usually long finished by the time START is pressed
+            applyAmharicFont(fontLoad.join());
+        } else {
+            fontLoad.thenAccept(font -> Platform.runLater(() -> applyAmharicFont(font)));
+        }
         gameScrollPane = new ScrollPane(gameScreen);
         gameScrollPane.setFitToWidth(true);
         gameScrollPane.setFitToHeight(true);
         gameScrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
         gameScrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
         gameScrollPane.setPannable(true);
-        gameScrollPane.setStyle("-fx-background-color: transparent;");
+        gameScrollPane.getStyleClass().add("game-scroll");
         gameScrollPane.setVisible(false);
 
+        gameScreen.prefWidthProperty().bind(root.widthProperty());
+        gameScreen.prefHeightProperty().bind(root.heightProperty());
+
+        root.getChildren().add(gameScrollPane);
+    }
+
+    // Switches the answer card and buttons to the Amharic font once it is loaded
+    private void applyAmharicFont(Font amharicFont) {
+        if (amharicFont == null) {
+            return;
+        }
+        String family = amharicFont.getFamily();
+        answerTitle.setFont(Font.font(family, FontWeight.BOLD, 24));
+        answerSubtitleLabel.setFont(Font.font(family, 16));
+        proverbTextLabel.setFont(Font.font(family, FontWeight.BOLD, 18));
+        correctButton.setFont(Font.font(family, FontWeight.BOLD, 18));
+        wrongButton.setFont(Font.font(family, FontWeight.BOLD, 18));
+        feedbackLabel.setFont(Font.font(family, FontWeight.BOLD, 18));
+        showAnswerButton.setFont(Font.font(family, FontWeight.BOLD, 18));
+    }
+
+    private void ensureResultScreen() {
+        if (resultScreen != null) {
+            return;
+        }
         resultScreen = createResultScreen();
         resultScreen.setVisible(false);
+        root.getChildren().add(resultScreen);
+    }
 
-        gameScreen.prefWidthProperty().bind(root.widthProperty());
-        gameScreen.prefHeightProperty().bind(root.heightProperty());
+    // Re-decode the current image only when the window crosses a size bucket
+    private void updateImageDecodeSize() {
+        double scale = 1.0;
+        if (root.getScene() != null && root.getScene().getWindow() != null) {
+            scale = Math.max(root.getScene().getWindow().getOutputScaleX(), root.getScene().getWindow().getOutputScaleY());
+        }
+        int width = toSizeBucket((root.getWidth() * IMAGE_AREA_RATIO - IMAGE_INSET) * scale);
+        int height = toSizeBucket((root.getHeight() * IMAGE_AREA_RATIO - IMAGE_INSET) * scale);
+        if (width == imageDecodeWidth && height == imageDecodeHeight) {
+            return;
+        }
+        imageDecodeWidth = width;
+        imageDecodeHeight = height;
+
+        Proverb proverb = displayedProverb;
+        if (proverb != null && proverb.getImagePath() != null && !proverb.getImagePath().isBlank()) {
+            imageLoader.load(proverb.getImagePath(), width, height)
+                .whenComplete((img, error) -> Platform.runLater(() -> applyProverbImage(proverb, img, error)));
+        }
+    }
 
-        root.getChildren().addAll(startScreen, gameScrollPane, resultScreen);
+    private static int toSizeBucket(double size) {
+        if (size <= 0) {
+            return 0;
+        }
+        return (int) Math.ceil(size / IMAGE_SIZE_BUCKET) * IMAGE_SIZE_BUCKET;
     }
 
     // Start screen with logo and start button
@@ -121,18 +259,13 @@ public class GameController {
         logo.setStroke(Color.web("#667eea"));
         logo.setStrokeWidth(2);
 
-        try (InputStream stream = getClass().getResourceAsStream("/images/logo.png")) {
-            if (stream != null) {
-                Image img = new Image(stream);
+        // Plain fill until the logo has been decoded in the background
+        logo.setFill(Color.web("#667eea"));
+        CompletableFuture.supplyAsync(this::loadLogo, loader).thenAccept(img -> Platform.runLater(() -> {
+            if (img != null) {
                 logo.setFill(new ImagePattern(img));
-            } else {
-                System.out.println("Logo image not found at /images/logo.png. Please add your logo image to src/main/resources/images/logo.png");
-                logo.setFill(Color.web("#667eea"));
             }
-        } catch (Exception e) {
-            System.err.println("Error loading logo image: " + e.getMessage());
-            logo.setFill(Color.web("#667eea"));
-        }
+        }));
 
         Label title = new Label("Tibeb Guess");
         title.setFont(Font.font("Arial", FontWeight.BOLD, 56));
@@ -155,52 +288,105 @@ public class GameController {
         Button easyButton = new Button("EASY");
         Button mediumButton = new Button("MEDIUM");
         Button hardButton = new Button("HARD");
-        
+        levelButtons.put(Proverb.Difficulty.EASY, easyButton);
+        levelButtons.put(Proverb.Difficulty.MEDIUM, mediumButton);
+        levelButtons.put(Proverb.Difficulty.HARD, hardButton);
 
         easyButton.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        easyButton.setStyle("-fx-background-color: #4CAF50; -fx-text-fill: white; -fx-padding: 12 24; -fx-background-radius: 8; -fx-cursor: hand;");
-        easyButton.setOnAction(e -> selectDifficulty(Proverb.Difficulty.EASY, easyButton, mediumButton, hardButton));
+        easyButton.getStyleClass().addAll("difficulty-button", "easy");
+        easyButton.setOnAction(e -> selectDifficulty(Proverb.Difficulty.EASY));
 
         mediumButton.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        mediumButton.setStyle("-fx-background-color: #FF9800; -fx-text-fill: white; -fx-padding: 12 24; -fx-background-radius: 8; -fx-cursor: hand;");
-        mediumButton.setOnAction(e -> selectDifficulty(Proverb.Difficulty.MEDIUM, mediumButton, easyButton, hardButton));
+        mediumButton.getStyleClass().addAll("difficulty-button", "medium");
+        mediumButton.setOnAction(e -> selectDifficulty(Proverb.Difficulty.MEDIUM));
 
         hardButton.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        hardButton.setStyle("-fx-background-color: #f44336; -fx-text-fill: white; -fx-padding: 12 24; -fx-background-radius: 8; -fx-cursor: hand;");
-        hardButton.setOnAction(e -> selectDifficulty(Proverb.Difficulty.HARD, hardButton, easyButton, mediumButton));
+        hardButton.getStyleClass().addAll("difficulty-button", "hard");
+        hardButton.setOnAction(e -> selectDifficulty(Proverb.Difficulty.HARD));
 
         
 
         difficultyButtons.getChildren().addAll(easyButton, mediumButton, hardButton);
 
         // Initially select medium
-        selectDifficulty(Proverb.Difficulty.MEDIUM, mediumButton, easyButton, hardButton);
+        selectDifficulty(Proverb.Difficulty.MEDIUM);
 
-        Button startButton = new Button("START GAME");
+        startButton = new Button("START GAME");
         startButton.setFont(Font.font("Arial", FontWeight.BOLD, 20));
-        startButton.setStyle("-fx-background-color: #ff6b9d; -fx-text-fill: white; -fx-padding: 20 50; -fx-background-radius: 10; -fx-cursor: hand;");
-        startButton.setOnAction(e -> {
-            startScreen.setVisible(false);
-            gameScrollPane.setVisible(true);
-            if (gameManager != null) gameManager.startGame();
-        });
-
-        startContainer.getChildren().addAll(titleGroup, difficultyButtons, startButton);
+        startButton.getStyleClass().add("start-button");
+        startButton.setDisable(true); // until the proverbs are loaded
+        startButton.setOnAction(e -> startGame());
+
+        // Shown only when an unfinished game was saved
+        resumeButton = new Button("RESUME GAME");
+        resumeButton.setFont(Font.font("Arial", FontWeight.BOLD, 16));
+        resumeButton.getStyleClass().add("start-button");
+        resumeButton.setVisible(false);
+        resumeButton.setManaged(false);
+
+        startContainer.getChildren().addAll(titleGroup, difficultyButtons, startButton, resumeButton);
         return startContainer;
     }
 
-    private void selectDifficulty(Proverb.Difficulty difficulty, Button selectedButton, Button... otherButtons) {
-        // Update button styles
-        String selectedColor = selectedButton.getText().equals("EASY") ? "#4CAF50" :
-                               selectedButton.getText().equals("MEDIUM") ? "#FF9800" : "#f44336";
-        selectedButton.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white; -fx-padding: 12 24; -fx-background-radius: 8; -fx-cursor: hand; -fx-effect: dropshadow(three-pass-box, rgba(33,150,243,0.5), 5,0,0,0);");
+    /**
+     * Switches to the game screen and starts a game, as the START GAME button does.
+     */
+    public void startGame() {
+        hideResumeOffer();
+        ensureGameScreen();
+        startScreen.setVisible(false);
+        gameScrollPane.setVisible(true);
+        if (gameManager != null) gameManager.startGame();
+    }
 
-        for (Button button : otherButtons) {
-            String color = button.getText().equals("EASY") ? "#4CAF50" :
-                          button.getText().equals("MEDIUM") ? "#FF9800" :
-                          button.getText().equals("HARD") ? "#f44336" : "#9C27B0";
-            button.setStyle("-fx-background-color: " + color + "; -fx-text-fill: white; -fx-padding: 12 24; -fx-background-radius: 8; -fx-cursor: hand;");
+    /**
+     * Offers to continue {@code saved} from the start screen.
+     */
+    public void offerResume(SavedGame saved) {
+        resumeButton.setText(String.format("RESUME GAME  (round %d of %d, score %d)",
+            saved.getRoundIndex() + 1, saved.getTotalRounds(), saved.getScore()));
+        resumeButton.setOnAction(e -> resumeGame(saved));
+        resumeButton.setVisible(true);
+        resumeButton.setManaged(true);
+    }
+
+    private void resumeGame(SavedGame saved) {
+        hideResumeOffer();
+        ensureGameScreen();
+        startScreen.setVisible(false);
+        gameScrollPane.setVisible(true);
+        if (gameManager == null || !gameManager.resumeGame(saved)) {
+            // The proverbs changed since the game was saved
+            gameScrollPane.setVisible(false);
+            startScreen.setVisible(true);
+        }
+        if (gameManager != null) {
+            // A resumed game brings its own difficulty; a rejected one keeps the old
+            showSelectedDifficulty(gameManager.getSelectedDifficulty());
         }
+    }
+
+    private void hideResumeOffer() {
+        resumeButton.setVisible(false);
+        resumeButton.setManaged(false);
+    }
+
+    private Image loadLogo() {
+        try (InputStream stream = AssetBundle.openAsset("/images/logo.png")) {
+            if (stream != null) {
+                return new Image(stream);
+            }
+            System.out.println("Logo image not found at /images/logo.png. Please add your logo image to src/main/resources/images/logo.png");
+        } catch (Exception e) {
+            System.err.println("Error loading logo image: " + e.getMessage());
+        } finally {
+            StartupReport.mark(StartupReport.LOGO);
+        }
+        return null;
+    }
+
+    private void selectDifficulty(Proverb.Difficulty difficulty) {
+        showSelectedDifficulty(difficulty);
 
         // Set difficulty in game manager
         if (gameManager != null) {
@@ -208,12 +394,19 @@ public class GameController {
         }
     }
 
+    // Highlights the button of difficulty, or none for random mode (null)
+    private void showSelectedDifficulty(Proverb.Difficulty difficulty) {
+        for (Map.Entry<Proverb.Difficulty, Button> entry : levelButtons.entrySet()) {
+            entry.getValue().pseudoClassStateChanged(SELECTED, entry.getKey() == difficulty);
+        }
+    }
+
     // Main game screen with status, image, and answer card
-    private VBox createGameScreen(Font amharicFont) {
+    private VBox createGameScreen() {
         VBox mainContainer = new VBox(30);
         mainContainer.setPadding(new Insets(30, 40, 60, 40));
         mainContainer.setAlignment(Pos.TOP_CENTER);
-        mainContainer.setStyle("-fx-background-color:linear-gradient(to bottom, #667eea 0%, #764ba2 100%);");
+        mainContainer.getStyleClass().add("game-screen");
 
         // Status bar
         HBox statusBar = new HBox(40);
@@ -226,12 +419,12 @@ public class GameController {
         clockIcon.setFont(Font.font(20));
         timerLabel = new Label("30");
         timerLabel.setFont(Font.font("Arial", FontWeight.BOLD, 24));
-        timerLabel.setTextFill(Color.WHITE);
+        timerLabel.getStyleClass().add("timer");
         timerBox.getChildren().addAll(clockIcon, timerLabel);
 
         heartsLabel = new Label("❤❤❤");
         heartsLabel.setFont(Font.font("Arial", FontWeight.BOLD, 24));
-        heartsLabel.setTextFill(Color.RED);
+        heartsLabel.getStyleClass().add("hearts");
 
         HBox scoreBox = new HBox(8);
         scoreBox.setAlignment(Pos.CENTER);
@@ -244,10 +437,10 @@ public class GameController {
         scoreBox.getChildren().addAll(scoreText, scoreLabel);
 
         // Difficulty indicator
-        Label difficultyLabel = new Label("MEDIUM");
+        difficultyLabel = new Label("MEDIUM");
         difficultyLabel.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        difficultyLabel.setTextFill(Color.CYAN);
-        difficultyLabel.setId("difficultyLabel");
+        difficultyLabel.getStyleClass().add("difficulty-indicator");
+        difficultyLabel.pseudoClassStateChanged(MEDIUM, true);
 
         statusBar.getChildren().addAll(timerBox, heartsLabel, scoreBox, difficultyLabel);
 
@@ -260,14 +453,13 @@ public class GameController {
         imageWrapper = new StackPane();
         imageWrapper.prefWidthProperty().bind(root.widthProperty().multiply(0.55));
         imageWrapper.prefHeightProperty().bind(root.heightProperty().multiply(0.55));
-        imageWrapper.setStyle("-fx-background-color: white; -fx-background-radius: 20; -fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.25), 15,0,0,6);");
+        imageWrapper.getStyleClass().add("game-card");
 
         imageView = new ImageView();
         imageView.fitWidthProperty().bind(imageWrapper.widthProperty().subtract(40));
         imageView.fitHeightProperty().bind(imageWrapper.heightProperty().subtract(40));
         imageView.setPreserveRatio(true);
         imageView.setSmooth(true);
-        imageView.setCache(true);
 
         imagePlaceholder = new Label("Add your proverb image to src/main/resources/images and update proverbs.txt.");
         imagePlaceholder.setWrapText(true);
@@ -283,25 +475,26 @@ public class GameController {
         answerCard.setAlignment(Pos.TOP_CENTER);
         answerCard.setPadding(new Insets(25));
         answerCard.prefWidthProperty().bind(root.widthProperty().multiply(0.35));
-        answerCard.setStyle("-fx-background-color: white; -fx-background-radius: 20; -fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.25), 15,0,0,6);");
+        answerCard.getStyleClass().add("game-card");
         answerCard.setVisible(false);
         answerCard.setManaged(false);
 
-        Label answerTitle = new Label("Answer");
-        
-answerTitle.getStyleClass().add("label");
-        answerTitle.setFont(amharicFont != null ? Font.font(amharicFont.getFamily(), FontWeight.BOLD, 24) : Font.font(24));
+        answerTitle = new Label("Answer");
+        answerTitle.getStyleClass().add("answer-title");
+        answerTitle.setFont(Font.font(24));
         answerTitle.setTextFill(Color.web("#333333"));
 
         answerSubtitleLabel = new Label(ANSWER_HINT_TEXT);
-        answerSubtitleLabel.setFont(amharicFont != null ? Font.font(amharicFont.getFamily(), 16) : Font.font(16));
+        answerSubtitleLabel.setFont(Font.font(16));
         answerSubtitleLabel.setTextFill(Color.web("#666666"));
+        answerSubtitleLabel.getStyleClass().add("answer-subtitle");
         answerSubtitleLabel.setWrapText(true);
         answerSubtitleLabel.setAlignment(Pos.CENTER);
 
         proverbTextLabel = new Label();
-        proverbTextLabel.setFont(amharicFont != null ? Font.font(amharicFont.getFamily(), FontWeight.BOLD, 18) : Font.font("Arial", FontWeight.BOLD, 18));
+        proverbTextLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
         proverbTextLabel.setTextFill(Color.web("#222222"));
+        proverbTextLabel.getStyleClass().add("answer-text");
         proverbTextLabel.setWrapText(true);
         proverbTextLabel.setAlignment(Pos.CENTER);
         proverbTextLabel.setMaxWidth(360);
@@ -313,20 +506,20 @@ answerTitle.getStyleClass().add("label");
         answerButtonsContainer.setPadding(new Insets(10, 0, 0, 0));
 
         correctButton = new Button("CORRECT");
-        correctButton.setFont(amharicFont != null ? Font.font(amharicFont.getFamily(), FontWeight.BOLD, 18) : Font.font("Arial", FontWeight.BOLD, 18));
-        correctButton.setStyle("-fx-background-color: linear-gradient(to right, #4CAF50, #6fdc6f); -fx-text-fill: white; -fx-padding: 14 36; -fx-background-radius: 12; -fx-cursor: hand;");
+        correctButton.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+        correctButton.getStyleClass().addAll("answer-button", "correct");
         correctButton.setOnAction(e -> handleCorrectAnswer());
 
         wrongButton = new Button("WRONG");
-        wrongButton.setFont(amharicFont != null ? Font.font(amharicFont.getFamily(), FontWeight.BOLD, 18) : Font.font("Arial", FontWeight.BOLD, 18));
-        wrongButton.setStyle("-fx-background-color: linear-gradient(to right, #f5576c, #f093fb); -fx-text-fill: white; -fx-padding: 14 36; -fx-background-radius: 12; -fx-cursor: hand;");
+        wrongButton.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+        wrongButton.getStyleClass().addAll("answer-button", "wrong");
         wrongButton.setOnAction(e -> handleWrongAnswer());
 
         answerButtonsContainer.getChildren().addAll(correctButton, wrongButton);
         setAnswerButtonsEnabled(false);
 
         feedbackLabel = new Label();
-        feedbackLabel.setFont(amharicFont != null ? Font.font(amharicFont.getFamily(), FontWeight.BOLD, 18) : Font.font("Arial", FontWeight.BOLD, 18));
+        feedbackLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
         feedbackLabel.setTextFill(Color.web("#444444"));
         feedbackLabel.setAlignment(Pos.CENTER);
         feedbackLabel.setWrapText(true);
@@ -336,8 +529,8 @@ answerTitle.getStyleClass().add("label");
         contentRow.getChildren().addAll(imageWrapper, answerCard);
 
         showAnswerButton = new Button("Show Answer");
-        showAnswerButton.setFont(amharicFont != null ? Font.font(amharicFont.getFamily(), FontWeight.BOLD, 18) : Font.font("Arial", FontWeight.BOLD, 18));
-        showAnswerButton.setStyle("-fx-background-color: #667eea; -fx-text-fill: white; -fx-padding: 14 40; -fx-background-radius: 12; -fx-cursor: hand;");
+        showAnswerButton.setFont(Font.font("Arial", FontWeight.BOLD, 18));
+        showAnswerButton.getStyleClass().add("show-answer-button");
         showAnswerButton.setOnAction(e -> showAnswerEarly());
 
         mainContainer.getChildren().addAll(statusBar, contentRow, showAnswerButton);
@@ -353,7 +546,7 @@ answerTitle.getStyleClass().add("label");
         VBox cardContainer = new VBox(25);
         cardContainer.setAlignment(Pos.CENTER);
         cardContainer.setPadding(new Insets(50));
-        cardContainer.setStyle("-fx-background-color: white; -fx-background-radius: 15; -fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.3), 10,0,0,5);");
+        cardContainer.getStyleClass().add("result-card");
         cardContainer.setMaxWidth(600);
 
         HBox header = new HBox(10);
@@ -365,25 +558,22 @@ answerTitle.getStyleClass().add("label");
         gameOver.setTextFill(Color.BLACK);
         header.getChildren().addAll(brokenHeart, gameOver);
 
-        Label heartsMessage = new Label("You've run out of hearts!");
+        heartsMessage = new Label("You've run out of hearts!");
         heartsMessage.setFont(Font.font("Arial", 18));
         heartsMessage.setTextFill(Color.GRAY);
-        heartsMessage.setId("heartsMessage");
 
         VBox scoreContainer = new VBox(5);
         scoreContainer.setAlignment(Pos.CENTER);
         Label finalScoreTitle = new Label("FINAL SCORE");
         finalScoreTitle.setFont(Font.font("Arial", FontWeight.BOLD, 16));
         finalScoreTitle.setTextFill(Color.GRAY);
-        Label finalScoreLabel = new Label();
+        finalScoreLabel = new Label();
         finalScoreLabel.setFont(Font.font("Arial", FontWeight.BOLD, 48));
         finalScoreLabel.setTextFill(Color.BLACK);
-        finalScoreLabel.setId("finalScore");
 
-        Label difficultyResultLabel = new Label();
+        difficultyResultLabel = new Label();
         difficultyResultLabel.setFont(Font.font("Arial", FontWeight.BOLD, 18));
         difficultyResultLabel.setTextFill(Color.BLUE);
-        difficultyResultLabel.setId("difficultyResult");
 
         scoreContainer.getChildren().addAll(finalScoreTitle, finalScoreLabel, difficultyResultLabel);
 
@@ -400,7 +590,7 @@ answerTitle.getStyleClass().add("label");
 
         Button playAgain = new Button("PLAY AGAIN");
         playAgain.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        playAgain.setStyle("-fx-background-color: #4CAF50; -fx-text-fill: white; -fx-padding: 15 40; -fx-background-radius: 8; -fx-cursor: hand;");
+        playAgain.getStyleClass().addAll("result-button", "play-again");
         playAgain.setOnAction(e -> {
             resultScreen.setVisible(false);
             startScreen.setVisible(true);
@@ -409,7 +599,7 @@ answerTitle.getStyleClass().add("label");
 
         Button exit = new Button("EXIT");
         exit.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        exit.setStyle("-fx-background-color: #764ba2; -fx-text-fill: white; -fx-padding: 15 40; -fx-background-radius: 8; -fx-cursor: hand;");
+        exit.getStyleClass().addAll("result-button", "exit");
         exit.setOnAction(e -> Platform.exit());
 
         buttonBox.getChildren().addAll(playAgain, exit);
@@ -453,162 +643,192 @@ answerTitle.getStyleClass().add("label");
         answerRevealed = false;
     }
 
-    // Update status UI
-    public void updateUI() {
-        Platform.runLater(() -> {
-            if (gameManager != null) {
-                scoreLabel.setText(String.valueOf(gameManager.getScore()));
-                int hearts = gameManager.getHearts();
-                StringBuilder h = new StringBuilder();
-                for (int i = 0; i < hearts; i++) h.append("❤");
-                heartsLabel.setText(h.toString());
-                heartsLabel.setTextFill(hearts > 1 ? Color.RED : (hearts == 1 ? Color.ORANGE : Color.GRAY));
-                updateDifficultyDisplay();
-            }
-        });
+    /**
+     * Queues a snapshot for display. Safe to call from any thread; snapshots
+     * published faster than the FX thread renders them are coalesced so only
+     * the latest is applied, in a single pass.
+     */
+    public void render(GameSnapshot snapshot) {
+        pendingSnapshot.set(snapshot);
+        if (renderScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::applyPendingSnapshot);
+        }
     }
 
-    private void updateDifficultyDisplay() {
-        Platform.runLater(() -> {
-            Label difficultyLabel = (Label) root.lookup("#difficultyLabel");
-            if (difficultyLabel != null && gameManager != null) {
-                Proverb.Difficulty difficulty = gameManager.getSelectedDifficulty();
-                String displayText = difficulty == null ? "RANDOM" : difficulty.toString();
-                difficultyLabel.setText(displayText);
-                if (difficulty == null) {
-                    difficultyLabel.setTextFill(Color.MAGENTA);
-                } else {
-                    switch (difficulty) {
-                        case EASY:
-                            difficultyLabel.setTextFill(Color.LIGHTGREEN);
-                            break;
-                        case MEDIUM:
-                            difficultyLabel.setTextFill(Color.CYAN);
-                            break;
-                        case HARD:
-                            difficultyLabel.setTextFill(Color.ORANGE);
-                            break;
-                    }
-                }
-            }
-        });
-    }
+    private void applyPendingSnapshot() {
+        renderScheduled.set(false);
+        GameSnapshot next = pendingSnapshot.get();
+        GameSnapshot last = renderedSnapshot;
+        if (next == last) {
+            return;
+        }
+        renderedSnapshot = next;
+        ensureGameScreen();
 
-    public void updateTimer(int seconds) {
-        Platform.runLater(() -> {
-            timerLabel.setText(String.valueOf(Math.max(seconds, 0)));
-            if (seconds <= 5) timerLabel.setTextFill(Color.RED);
-            else if (seconds <= 10) timerLabel.setTextFill(Color.ORANGE);
-            else timerLabel.setTextFill(Color.WHITE);
-        });
+        boolean newRound = last == null || next.getRound() != last.getRound();
+        if (newRound) {
+            resetAnswerCard();
+            displayProverbImage(next.getProverb());
+        }
+        if (last == null || next.getScore() != last.getScore()) {
+            scoreLabel.setText(String.valueOf(next.getScore()));
+        }
+        if (last == null || next.getHearts() != last.getHearts()) {
+            updateHearts(next.getHearts());
+        }
+        if (last == null || next.getDifficulty() != last.getDifficulty()) {
+            updateDifficultyDisplay(next.getDifficulty());
+        }
+        if (next.isCountingDown()) {
+            countdown.start();
+        } else {
+            countdown.stop();
+        }
+        showSecondsRemaining(next.getSecondsRemaining(System.nanoTime()));
+        boolean revealedNow = next.isRevealed() && (newRound || !last.isRevealed());
+        if (revealedNow) {
+            revealAnswer(next.getProverb(), next.getRevealReason());
+        }
+        if (newRound || revealedNow || !Objects.equals(next.getFeedback(), last.getFeedback())) {
+            showFeedback(next.getFeedback());
+        }
+        if (next.isFinished() && (last == null || !last.isFinished())) {
+            showFinalResult(next);
+        }
     }
 
-    // Show proverb image
-    public void showProverbImage(Proverb proverb) {
-        Platform.runLater(() -> {
-            resetAnswerCard();
-            if (proverb == null) {
-                imageView.setImage(null);
-                imagePlaceholder.setText("No proverb data loaded.");
-                imagePlaceholder.setVisible(true);
-                return;
-            }
+    private void updateHearts(int hearts) {
+        StringBuilder h = new StringBuilder();
+        for (int i = 0; i < hearts; i++) h.append("❤");
+        heartsLabel.setText(h.toString());
+        heartsLabel.pseudoClassStateChanged(LAST_HEART, hearts == 1);
+        heartsLabel.pseudoClassStateChanged(NO_HEARTS, hearts <= 0);
+    }
 
-            String path = proverb.getImagePath();
-            if (path == null || path.isBlank()) {
-                imageView.setImage(null);
-                imagePlaceholder.setText("No image path provided.");
-                imagePlaceholder.setVisible(true);
-                return;
-            }
+    private void updateDifficultyDisplay(Proverb.Difficulty difficulty) {
+        difficultyLabel.setText(difficulty == null ? "RANDOM" : difficulty.toString());
+        difficultyLabel.pseudoClassStateChanged(EASY, difficulty == Proverb.Difficulty.EASY);
+        difficultyLabel.pseudoClassStateChanged(MEDIUM, difficulty == Proverb.Difficulty.MEDIUM);
+        difficultyLabel.pseudoClassStateChanged(HARD, difficulty == Proverb.Difficulty.HARD);
+        difficultyLabel.pseudoClassStateChanged(RANDOM, difficulty == null);
+    }
 
-            try (InputStream stream = getClass().getResourceAsStream(path)) {
-                if (stream == null) throw new IllegalArgumentException("Image not found: " + path);
-                Image img = new Image(stream);
-                imageView.setImage(img);
-                imagePlaceholder.setVisible(false);
-            } catch (Exception e) {
-                imageView.setImage(null);
-                imagePlaceholder.setText("Missing image: " + path + "\nPlace under src/main/resources" + path);
-                imagePlaceholder.setVisible(true);
-                System.err.println("Error loading image: " + e.getMessage());
-            }
-        });
+    private void showSecondsRemaining(int seconds) {
+        if (seconds != shownSeconds) {
+            shownSeconds = seconds;
+            updateTimer(seconds);
+        }
     }
 
-    public void revealAnswer(Proverb proverb, String subtitle) {
-        Platform.runLater(() -> {
-            if (proverb == null) return;
-    
-            // 1. Set the text from your UTF-8 source
-            proverbTextLabel.setText(proverb.getText());
-            answerSubtitleLabel.setText(subtitle != null ? subtitle : "");
-    
-            // 2. FORCE the Amharic font (Nyala is built into Windows and prevents boxes)
-            String amharicStyle = "-fx-font-family: 'Nyala', 'Noto Sans Ethiopic', 'Abyssinica SIL';";
-            
-            proverbTextLabel.setStyle(amharicStyle + " -fx-font-size: 20px;");
-            answerSubtitleLabel.setStyle(amharicStyle + " -fx-font-size: 16px;");
-    
-            // FIX FOR LINE 440: Check if answerTitle exists before styling it
-            // Ensure 'private Label answerTitle;' is declared at the top of your class
-            if (answerTitle != null) {
-                answerTitle.setStyle(amharicStyle + " -fx-font-size: 24px; -fx-font-weight: bold;");
-            }
-    
-            // 3. Update visibility
-            answerCard.setVisible(true);
-            answerCard.setManaged(true);
-            answerButtonsContainer.setVisible(true);
-            answerButtonsContainer.setManaged(true);
-            showAnswerButton.setVisible(false);
-            setAnswerButtonsEnabled(true);
-            feedbackLabel.setVisible(false);
-            answerRevealed = true;
-        });
+    private void updateTimer(int seconds) {
+        timerLabel.setText(String.valueOf(Math.max(seconds, 0)));
+        // Pseudo-class changes only restyle the timer when a threshold is crossed
+        timerLabel.pseudoClassStateChanged(CRITICAL, seconds <= 5);
+        timerLabel.pseudoClassStateChanged(WARNING, seconds > 5 && seconds <= 10);
     }
 
-    private void showAnswerEarly() {
-        if (gameManager != null && !answerRevealed) {
-            gameManager.revealAnswerEarly("");
+    // Show proverb image; called on the FX thread at the start of each round
+    private void displayProverbImage(Proverb proverb) {
+        displayedProverb = proverb;
+        String path = proverb != null ? proverb.getImagePath() : null;
+        if (proverb == null || path == null || path.isBlank()) {
+            imageView.setImage(null);
+            imagePlaceholder.setText(proverb == null ? "No proverb data loaded." : "No image path provided.");
+            imagePlaceholder.setVisible(true);
+            return;
+        }
+
+        // Decode off the FX thread and warm up the next rounds while this one runs
+        int width = imageDecodeWidth;
+        int height = imageDecodeHeight;
+        CompletableFuture<Image> image = imageLoader.load(path, width, height);
+        if (gameManager != null) {
+            imageLoader.prefetch(gameManager.getUpcomingProverbs(PREFETCH_COUNT), width, height);
+        }
+
+        if (image.isDone()) {
+            // Prefetched: swap the image in this same pass
+            image.whenComplete((img, error) -> applyProverbImage(proverb, img, error));
+        } else {
+            imageView.setImage(null);
+            imagePlaceholder.setVisible(false);
+            image.whenComplete((img, error) -> Platform.runLater(() -> applyProverbImage(proverb, img, error)));
         }
     }
 
-    public void showFinalResult(int score, int hearts, int completed, int total) {
-        Platform.runLater(() -> {
-            Label finalScoreLabel = (Label) resultScreen.lookup("#finalScore");
-            Label heartsMessage = (Label) resultScreen.lookup("#heartsMessage");
-            Label difficultyResultLabel = (Label) resultScreen.lookup("#difficultyResult");
+    private void applyProverbImage(Proverb proverb, Image img, Throwable error) {
+        if (proverb != displayedProverb) {
+            return; // a newer round already replaced this image
+        }
+        if (error == null) {
+            imageView.setImage(img);
+            imagePlaceholder.setVisible(false);
+        } else {
+            String path = proverb.getImagePath();
+            imageView.setImage(null);
+            imagePlaceholder.setText("Missing image: " + path + "\nPlace under src/main/resources" + path);
+            imagePlaceholder.setVisible(true);
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            System.err.println("Error loading image: " + cause.getMessage());
+        }
+    }
 
-            if (finalScoreLabel != null) finalScoreLabel.setText(String.valueOf(score));
-            if (heartsMessage != null) {
-                heartsMessage.setText(hearts <= 0 ? "You've run out of hearts!" : String.format("Finished! %d / %d proverbs", completed, total));
-            }
-            if (difficultyResultLabel != null && gameManager != null) {
-                difficultyResultLabel.setText(gameManager.getSelectedDifficulty().toString() + " LEVEL");
-            }
+    /**
+     * Drops cached decodes of an image that changed on disk and reloads it if
+     * it is on screen. Safe to call from any thread.
+     */
+    public void invalidateImage(String path) {
+        imageLoader.invalidate(path);
+        Proverb proverb = displayedProverb;
+        if (proverb != null && path.equals(proverb.getImagePath())) {
+            imageLoader.load(path, imageDecodeWidth, imageDecodeHeight)
+                .whenComplete((img, error) -> Platform.runLater(() -> applyProverbImage(proverb, img, error)));
+        }
+    }
 
-            gameScrollPane.setVisible(false);
-            resultScreen.setVisible(true);
-        });
+    private void revealAnswer(Proverb proverb, String subtitle) {
+        if (proverb == null) return;
+
+        // 1. Set the text from your UTF-8 source
+        // (the Amharic font comes from the answer-* style classes in styles.css)
+        proverbTextLabel.setText(proverb.getText());
+        answerSubtitleLabel.setText(subtitle != null ? subtitle : "");
+
+        // 2. Update visibility
+        answerCard.setVisible(true);
+        answerCard.setManaged(true);
+        answerButtonsContainer.setVisible(true);
+        answerButtonsContainer.setManaged(true);
+        showAnswerButton.setVisible(false);
+        setAnswerButtonsEnabled(true);
+        feedbackLabel.setVisible(false);
+        answerRevealed = true;
     }
 
-    public void showProverbImage() {
-        if (gameManager != null) showProverbImage(gameManager.getCurrentProverb());
+    private void showAnswerEarly() {
+        if (gameManager != null && !answerRevealed) {
+            gameManager.revealAnswerEarly("");
+        }
     }
 
-    public void showFeedback(String message) {
-        Platform.runLater(() -> {
-            if (message == null || message.isBlank()) feedbackLabel.setVisible(false);
-            else {
-                feedbackLabel.setText(message);
-                feedbackLabel.setVisible(true);
-            }
-        });
+    private void showFinalResult(GameSnapshot snapshot) {
+        ensureResultScreen();
+        finalScoreLabel.setText(String.valueOf(snapshot.getScore()));
+        heartsMessage.setText(snapshot.getHearts() <= 0 ? "You've run out of hearts!"
+            : String.format("Finished! %d / %d proverbs", snapshot.getCompletedRounds(), snapshot.getTotalRounds()));
+        Proverb.Difficulty difficulty = snapshot.getDifficulty();
+        difficultyResultLabel.setText((difficulty == null ? "RANDOM" : difficulty.toString()) + " LEVEL");
+
+        gameScrollPane.setVisible(false);
+        resultScreen.setVisible(true);
     }
 
-    public void resetRoundUI() {
-        Platform.runLater(this::resetAnswerCard);
+    private void showFeedback(String message) {
+        if (message == null || message.isBlank()) feedbackLabel.setVisible(false);
+        else {
+            feedbackLabel.setText(message);
+            feedbackLabel.setVisible(true);
+        }
     }
 
     public StackPane getRoot() {
@@ -0,0 +1,483 @@
+package com.tibebguess;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * GameEventLog
+ *
+ * Compact binary log of what happened in each game: its seed and settings,
+ * then every round start, reveal, answer and the final result, with the
+ * milliseconds since the previous event on the game's scheduler clock. A
+ * {@link Recorder} collects the events of one game in memory and appends
+ * them as a checksummed chunk at every round start and when the game
+ * finishes or is stopped. Chunks carry a game id, so games of many sessions
+ * may interleave in the file; a game whose last chunk never made it to disk,
+ * because the process died, reads back as stopped after its last round
+ * start. {@link GameReplay} plays recorded games again through the headless
+ * path.
+ *
+ * File (big-endian; varints are unsigned LEB128):
+ * <pre>
+ * header   magic "TBEL", u16 version, u16 reserved, then records:
+ *          i32 payloadLength, i32 crc32(payload),
+ * payload  varint gameId (unique among the games of one open log),
+ *          u8 chunk (bit 0 = first chunk of the game, bit 1 = last),
+ *          first chunk only: i64 startedAtMillis, i64 seed, u8 difficulty (3 = random),
+ *            u8 flags (bit 0 = proverbs picked by a mode, bit 1 = resumed),
+ *            varint initialHearts, varint totalRounds,
+ *          then events:
+ *          u8 type, varint millisSincePreviousEvent, fields by type
+ *            1 round started   varint index, varint roundSeconds, i32 proverb text hash
+ *            2 revealed        u8 early, varint secondsRemaining
+ *            3 answered        u8 correct, varint score, varint hearts
+ *            4 finished        varint score, varint hearts, varint completedRounds, varint totalRounds
+ *            5 stopped
+ * </pre>
+ */
+public final class GameEventLog implements Closeable {
+    /** System property with the file games are logged to. */
+    public static final String FILE_PROPERTY = "tibeb.eventLog";
+
+    static final int MAGIC = 0x5442454C; // "TBEL"
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 8;
+
+    static final int ROUND_STARTED = 1;
+    static final int REVEALED = 2;
+    static final int ANSWERED = 3;
+    static final int FINISHED = 4;
+    static final int STOPPED = 5;
+
+    static final int CHUNK_FIRST = 1;
+    static final int CHUNK_LAST = 2;
+
+    /** Flag: proverbs were picked by an adaptive or learning mode, so the seed does not reproduce them. */
+    static final int FLAG_PICKED = 1;
+    /** Flag: the game was resumed from a {@link SavedGame}, so its first rounds are missing. */
+    static final int FLAG_RESUMED = 2;
+
+    /**
+     * Collects the events of one manager's current game; used under the
+     * manager's lock.
+     */
+    public final class Recorder {
+        private byte[] buffer = new byte[256];
+        private int length;
+        private long lastNanos;
+        private boolean recording;
+        private long gameId;
+        // Position of the current chunk's flags byte
+        private int chunkAt;
+
+        void gameStarted(long nowNanos, long seed, Proverb.Difficulty difficulty, int flags, int hearts, int totalRounds) {
+            recording = true;
+            lastNanos = nowNanos;
+            gameId = nextGameId.getAndIncrement();
+            startChunk(CHUNK_FIRST);
+            writeLong(System.currentTimeMillis());
+            writeLong(seed);
+            writeByte(difficulty == null ? 3 : difficulty.ordinal());
+            writeByte(flags);
+            writeVarint(hearts);
+            writeVarint(totalRounds);
+        }
+
+        void roundStarted(long nowNanos, int index, int roundSeconds, Proverb proverb) {
+            if (!event(ROUND_STARTED, nowNanos)) {
+                return;
+            }
+            writeVarint(index);
+            writeVarint(roundSeconds);
+            writeInt(proverb == null ? 0 : proverb.getText().hashCode());
+            flush(false);
+        }
+
+        void revealed(long nowNanos, boolean early, int secondsRemaining) {
+            if (!event(REVEALED, nowNanos)) {
+                return;
+            }
+            writeByte(early ? 1 : 0);
+            writeVarint(secondsRemaining);
+        }
+
+        void answered(long nowNanos, boolean correct, int score, int hearts) {
+            if (!event(ANSWERED, nowNanos)) {
+                return;
+            }
+            writeByte(correct ? 1 : 0);
+            writeVarint(score);
+            writeVarint(hearts);
+        }
+
+        void finished(long nowNanos, int score, int hearts, int completedRounds, int totalRounds) {
+            if (!event(FINISHED, nowNanos)) {
+                return;
+            }
+            writeVarint(score);
+            writeVarint(hearts);
+            writeVarint(completedRounds);
+            writeVarint(totalRounds);
+            flush(true);
+        }
+
+        void stopped(long nowNanos) {
+            if (event(STOPPED, nowNanos)) {
+                flush(true);
+            }
+        }
+
+        // Appends the chunk so far and starts the next one, unless the game is over
+        private void flush(boolean last) {
+            if (last) {
+                buffer[chunkAt] |= CHUNK_LAST;
+            }
+            try {
+                append(buffer, length);
+            } catch (IOException e) {
+                System.err.println("Could not write game event log: " + e.getMessage());
+            }
+            if (last) {
+                length = 0;
+                recording = false;
+            } else {
+                startChunk(0);
+            }
+        }
+
+        private void startChunk(int chunk) {
+            length = 0;
+            writeVarint(gameId);
+            chunkAt = length;
+            writeByte(chunk);
+        }
+
+        // Starts an event unless no game is being recorded
+        private boolean event(int type, long nowNanos) {
+            if (!recording) {
+                return false;
+            }
+            writeByte(type);
+            writeVarint(TimeUnit.NANOSECONDS.toMillis(Math.max(0, nowNanos - lastNanos)));
+            lastNanos = nowNanos;
+            return true;
+        }
+
+        private void writeByte(int value) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, length * 2);
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeInt(int value) {
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                writeByte(value >>> shift);
+            }
+        }
+
+        private void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+    }
+
+    /**
+     * One event of a recorded game; {@code values} holds its fields in file
+     * order.
+     */
+    public static final class Event {
+        private final int type;
+        private final long millis;
+        private final long[] values;
+
+        Event(int type, long millis, long[] values) {
+            this.type = type;
+            this.millis = millis;
+            this.values = values;
+        }
+
+        public int getType() {
+            return type;
+        }
+
+        /** Milliseconds since the previous event. */
+        public long getMillis() {
+            return millis;
+        }
+
+        public long value(int field) {
+            return values[field];
+        }
+    }
+
+    /**
+     * One recorded game.
+     */
+    public static final class Game {
+        private final long startedAtMillis;
+        private final long seed;
+        private final Proverb.Difficulty difficulty;
+        private final int flags;
+        private final int initialHearts;
+        private final int totalRounds;
+        private final List<Event> events;
+
+        Game(long startedAtMillis, long seed, Proverb.Difficulty difficulty, int flags,
+             int initialHearts, int totalRounds, List<Event> events) {
+            this.startedAtMillis = startedAtMillis;
+            this.seed = seed;
+            this.difficulty = difficulty;
+            this.flags = flags;
+            this.initialHearts = initialHearts;
+            this.totalRounds = totalRounds;
+            this.events = events;
+        }
+
+        public long getStartedAtMillis() {
+            return startedAtMillis;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        /** Returns the difficulty played, or null in random mode. */
+        public Proverb.Difficulty getDifficulty() {
+            return difficulty;
+        }
+
+        /** Whether the seed alone reproduces the proverbs of this game. */
+        public boolean isReplayable() {
+            return (flags & (FLAG_PICKED | FLAG_RESUMED)) == 0;
+        }
+
+        public int getInitialHearts() {
+            return initialHearts;
+        }
+
+        public int getTotalRounds() {
+            return totalRounds;
+        }
+
+        public List<Event> getEvents() {
+            return events;
+        }
+
+        /** Returns the finished event, or null if the game was stopped. */
+        public Event getResult() {
+            Event last = events.isEmpty() ? null : events.get(events.size() - 1);
+            return last != null && last.getType() == FINISHED ? last : null;
+        }
+    }
+
+    /** Events of one game as its chunks are read. */
+    private static final class PartialGame {
+        final long startedAtMillis;
+        final long seed;
+        final Proverb.Difficulty difficulty;
+        final int flags;
+        final int initialHearts;
+        final int totalRounds;
+        final List<Event> events = new ArrayList<>();
+        boolean ended;
+
+        PartialGame(ByteBuffer in) {
+            startedAtMillis = in.getLong();
+            seed = in.getLong();
+            int level = in.get() & 0xFF;
+            difficulty = level < Proverb.Difficulty.values().length ? Proverb.Difficulty.values()[level] : null;
+            flags = in.get() & 0xFF;
+            initialHearts = (int) readVarint(in);
+            totalRounds = (int) readVarint(in);
+        }
+
+        Game toGame() {
+            if (!ended) {
+                events.add(new Event(STOPPED, 0, new long[0])); // never finished, presumably a crash
+            }
+            return new Game(startedAtMillis, seed, difficulty, flags, initialHearts, totalRounds, events);
+        }
+    }
+
+    private final FileChannel channel;
+    private final AtomicLong nextGameId = new AtomicLong();
+
+    private GameEventLog(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens {@code file} for appending, writing the header if it is new.
+     */
+    public static GameEventLog open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (Files.exists(file) && Files.size(file) > 0) {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+                checkHeader(in, file);
+            }
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        }
+        return new GameEventLog(channel);
+    }
+
+    public Recorder newRecorder() {
+        return new Recorder();
+    }
+
+    /**
+     * Reads every game in {@code file} in the order they started; reading
+     * stops at a torn or corrupt record, and games without a last chunk end
+     * with a stopped event.
+     */
+    public static List<Game> read(Path file) throws IOException {
+        List<PartialGame> games = new ArrayList<>();
+        Map<Long, PartialGame> open = new HashMap<>();
+        long remaining = Files.size(file) - HEADER_SIZE;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            checkHeader(in, file);
+            CRC32 crc = new CRC32();
+            while (remaining >= RECORD_HEADER_SIZE) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                remaining -= RECORD_HEADER_SIZE;
+                if (length < 0 || length > remaining) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                remaining -= length;
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                decode(ByteBuffer.wrap(payload), open, games);
+            }
+        } catch (EOFException e) {
+            // shorter than it was a moment ago; keep what was read
+        }
+        List<Game> read = new ArrayList<>(games.size());
+        for (PartialGame game : games) {
+            read.add(game.toGame());
+        }
+        return read;
+    }
+
+    private static void checkHeader(DataInputStream in, Path file) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a game event log: " + file);
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported game event log version " + version + " in " + file);
+        }
+        in.readShort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized void append(byte[] payload, int length) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, length);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+        record.putInt(length).putInt((int) crc.getValue()).put(payload, 0, length).flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    // Adds one chunk to its game; a first chunk starts a new game even if its id was used before
+    private static void decode(ByteBuffer in, Map<Long, PartialGame> open, List<PartialGame> games) {
+        long id = readVarint(in);
+        int chunk = in.get() & 0xFF;
+        PartialGame game;
+        if ((chunk & CHUNK_FIRST) != 0) {
+            game = new PartialGame(in);
+            games.add(game);
+            open.put(id, game);
+        } else {
+            game = open.get(id);
+            if (game == null) {
+                return;
+            }
+        }
+        if ((chunk & CHUNK_LAST) != 0) {
+            game.ended = true;
+            open.remove(id);
+        }
+        List<Event> events = game.events;
+        while (in.hasRemaining()) {
+            int type = in.get() & 0xFF;
+            long millis = readVarint(in);
+            long[] values;
+            switch (type) {
+                case ROUND_STARTED:
+                    values = new long[] {readVarint(in), readVarint(in), in.getInt()};
+                    break;
+                case REVEALED:
+                    values = new long[] {in.get(), readVarint(in)};
+                    break;
+                case ANSWERED:
+                    values = new long[] {in.get(), readVarint(in), readVarint(in)};
+                    break;
+                case FINISHED:
+                    values = new long[] {readVarint(in), readVarint(in), readVarint(in), readVarint(in)};
+                    break;
+                default:
+                    values = new long[0];
+                    break;
+            }
+            events.add(new Event(type, millis, values));
+        }
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,537 @@
+package com.tibebguess;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * GameHistory
+ *
+ * Embedded, append-only log of finished games plus a top-N leaderboard per
+ * difficulty. {@link #record} only queues the result; one writer thread
+ * drains whatever has queued up, appends it with a single write and makes
+ * the whole batch durable with one {@code fsync}, so thousands of games per
+ * second from many sessions cost a handful of syncs. The leaderboards live in
+ * memory and are saved to a small index file every few seconds and on close;
+ * at startup the index is loaded and only log records written after it are
+ * replayed. A record torn by a crash is cut off on the next open.
+ *
+ * Files in the data directory ({@code -Dtibeb.dataDir}, by default
+ * {@code ~/.tibeb-guess}), big-endian:
+ * <pre>
+ * history.log      magic "TBGH", u16 version, u16 reserved, then records:
+ *                  i32 payloadLength, i32 crc32(payload),
+ *                  payload i64 finishedAtMillis, u8 difficulty (3 = random), i32 score, u8 hearts,
+ *                          i32 completedRounds, i32 totalRounds, i32 rounds, rounds x u8 outcome
+ * leaderboard.idx  magic "TBLB", u16 version, u16 size, i64 logLength covered,
+ *                  4 x (u16 count, count x (i64 finishedAtMillis, i32 score, u8 hearts,
+ *                                           i32 completedRounds, i32 totalRounds))
+ * </pre>
+ * Version 1 stored the three round counts as u16; such a log is rewritten in
+ * the current format when it is opened.
+ */
+public final class GameHistory implements Closeable {
+    /** System property with the directory game history is stored in. */
+    public static final String DATA_DIR_PROPERTY = "tibeb.dataDir";
+
+    /** Entries kept per leaderboard. */
+    public static final int LEADERBOARD_SIZE = 10;
+
+    static final int LOG_MAGIC = 0x54424748; // "TBGH"
+    static final int INDEX_MAGIC = 0x54424C42; // "TBLB"
+    static final short VERSION = 2;
+    static final short VERSION_U16_ROUNDS = 1;
+    static final int LOG_HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 8;
+    static final int PAYLOAD_FIXED_SIZE = 26;
+    static final int PAYLOAD_FIXED_SIZE_U16_ROUNDS = 20;
+
+    private static final int BOARDS = Proverb.Difficulty.values().length + 1;
+    private static final int MAX_BATCH = 4096;
+    private static final long INDEX_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final Entry CLOSE = new Entry(null);
+
+    private static final class Entry {
+        final GameResult result;
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        Entry(GameResult result) {
+            this.result = result;
+        }
+    }
+
+    private final Path logFile;
+    private final Path indexFile;
+    private final FileChannel channel;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final GameResult[][] boards = new GameResult[BOARDS][];
+    // Leaderboards as readers see them; replaced after each batch
+    private final List<List<GameResult>> published = new ArrayList<>();
+    private volatile boolean closed;
+
+    // Owned by the writer thread once it has started
+    private long logLength;
+    private long indexedLength;
+    private long lastIndexNanos;
+    private ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+
+    private GameHistory(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.logFile = directory.resolve("history.log");
+        this.indexFile = directory.resolve("leaderboard.idx");
+        for (int i = 0; i < BOARDS; i++) {
+            boards[i] = new GameResult[0];
+            published.add(Collections.emptyList());
+        }
+        upgrade(logFile);
+        this.channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        publish();
+        this.writer = new Thread(this::writeLoop, "game-history-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Opens (or creates) the history in {@code directory}.
+     */
+    public static GameHistory open(Path directory) throws IOException {
+        return new GameHistory(directory);
+    }
+
+    /**
+     * Returns the configured data directory, {@code ~/.tibeb-guess} by default.
+     */
+    public static Path defaultDirectory() {
+        String configured = System.getProperty(DATA_DIR_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".tibeb-guess");
+    }
+
+    /**
+     * Queues a finished game. The returned future completes once the record
+     * is on disk; callers that do not care can ignore it.
+     */
+    public CompletableFuture<Void> record(GameResult result) {
+        Entry entry = new Entry(result);
+        if (closed) {
+            entry.written.completeExceptionally(new IOException("Game history is closed"));
+        } else {
+            queue.add(entry);
+        }
+        return entry.written;
+    }
+
+    /**
+     * Returns the best games at {@code difficulty} (null for random mode),
+     * highest score first.
+     */
+    public List<GameResult> getLeaderboard(Proverb.Difficulty difficulty) {
+        synchronized (published) {
+            return published.get(slot(difficulty));
+        }
+    }
+
+    /**
+     * Writes everything queued so far and saves the leaderboard index.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.add(CLOSE);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Results queued while closing are not written
+        for (Entry entry; (entry = queue.poll()) != null; ) {
+            entry.written.completeExceptionally(new IOException("Game history is closed"));
+        }
+        try {
+            writeIndex();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>();
+        boolean closing = false;
+        while (!closing) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            closing = batch.remove(CLOSE);
+            try {
+                append(batch);
+                for (Entry entry : batch) {
+                    offer(entry.result);
+                }
+                publish();
+                if (System.nanoTime() - lastIndexNanos > INDEX_INTERVAL_NANOS) {
+                    writeIndex();
+                }
+                batch.forEach(entry -> entry.written.complete(null));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Could not write game history: " + e.getMessage());
+                batch.forEach(entry -> entry.written.completeExceptionally(e));
+            }
+            batch.clear();
+        }
+    }
+
+    private void append(List<Entry> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        buffer.clear();
+        CRC32 crc = new CRC32();
+        for (Entry entry : batch) {
+            GameResult result = entry.result;
+            int payloadLength = PAYLOAD_FIXED_SIZE + result.outcomeCount();
+            ensureCapacity(RECORD_HEADER_SIZE + payloadLength);
+            int start = buffer.position();
+            buffer.putInt(payloadLength).putInt(0);
+            encode(result, buffer);
+            crc.reset();
+            crc.update(buffer.array(), start + RECORD_HEADER_SIZE, payloadLength);
+            buffer.putInt(start + 4, (int) crc.getValue());
+        }
+        buffer.flip();
+        long position = logLength;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        channel.force(false);
+        logLength = position;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+
+    private static void encode(GameResult result, ByteBuffer out) {
+        out.putLong(result.getFinishedAtMillis());
+        out.put((byte) slot(result.getDifficulty()));
+        out.putInt(result.getScore());
+        out.put((byte) result.getHearts());
+        out.putInt(result.getCompletedRounds());
+        out.putInt(result.getTotalRounds());
+        out.putInt(result.outcomeCount());
+        for (int i = 0; i < result.outcomeCount(); i++) {
+            out.put(result.outcomeAt(i));
+        }
+    }
+
+    private void load() throws IOException {
+        long size = channel.size();
+        if (size < LOG_HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE).putInt(LOG_MAGIC).putShort(VERSION).putShort((short) 0);
+            header.flip();
+            channel.truncate(0);
+            channel.write(header, 0);
+            channel.force(true);
+            logLength = LOG_HEADER_SIZE;
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+        channel.read(header, 0);
+        if (header.getInt(0) != LOG_MAGIC) {
+            throw new IOException("Not a game history log: " + logFile);
+        }
+        if (header.getShort(4) != VERSION) {
+            throw new IOException("Unsupported game history version " + header.getShort(4));
+        }
+
+        long replayFrom = readIndex(size);
+        logLength = replay(replayFrom, size);
+        if (logLength < size) {
+            System.err.println("Dropping " + (size - logLength) + " bytes of incomplete game history at the end of " + logFile);
+            channel.truncate(logLength);
+        }
+        indexedLength = replayFrom;
+    }
+
+    /**
+     * Loads the leaderboards from the index if it is usable and returns the
+     * log position it covers; otherwise the whole log is replayed.
+     */
+    private long readIndex(long logSize) {
+        if (!Files.exists(indexFile)) {
+            return LOG_HEADER_SIZE;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readShort() != VERSION || in.readUnsignedShort() != LEADERBOARD_SIZE) {
+                return LOG_HEADER_SIZE;
+            }
+            long covered = in.readLong();
+            if (covered < LOG_HEADER_SIZE || covered > logSize) {
+                return LOG_HEADER_SIZE;
+            }
+            GameResult[][] loaded = new GameResult[BOARDS][];
+            for (int board = 0; board < BOARDS; board++) {
+                int count = Math.min(in.readUnsignedShort(), LEADERBOARD_SIZE);
+                loaded[board] = new GameResult[count];
+                for (int i = 0; i < count; i++) {
+                    long finishedAt = in.readLong();
+                    int score = in.readInt();
+                    int hearts = in.readUnsignedByte();
+                    int completed = in.readInt();
+                    int total = in.readInt();
+                    loaded[board][i] = new GameResult(finishedAt, difficulty(board), score, hearts, completed, total, new byte[0]);
+                }
+            }
+            System.arraycopy(loaded, 0, boards, 0, BOARDS);
+            return covered;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Rebuilding leaderboard from game history: " + e.getMessage());
+            return LOG_HEADER_SIZE;
+        }
+    }
+
+    /**
+     * Feeds every complete record from {@code from} into the leaderboards and
+     * returns the position after the last one.
+     */
+    private long replay(long from, long size) throws IOException {
+        long position = from;
+        InputStream stream = Channels.newInputStream(channel.position(from));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 1 << 16));
+        CRC32 crc = new CRC32();
+        byte[] payload = new byte[256];
+        while (position + RECORD_HEADER_SIZE <= size) {
+            int length;
+            int checksum;
+            try {
+                length = in.readInt();
+                checksum = in.readInt();
+                if (length < PAYLOAD_FIXED_SIZE || position + RECORD_HEADER_SIZE + length > size) {
+                    break;
+                }
+                if (payload.length < length) {
+                    payload = new byte[length];
+                }
+                in.readFully(payload, 0, length);
+            } catch (EOFException e) {
+                break;
+            }
+            crc.reset();
+            crc.update(payload, 0, length);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            offer(decode(ByteBuffer.wrap(payload, 0, length), VERSION));
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private static GameResult decode(ByteBuffer in, short version) {
+        long finishedAt = in.getLong();
+        int board = in.get();
+        int score = in.getInt();
+        int hearts = in.get() & 0xFF;
+        boolean wide = version != VERSION_U16_ROUNDS;
+        int completed = wide ? in.getInt() : in.getShort() & 0xFFFF;
+        int total = wide ? in.getInt() : in.getShort() & 0xFFFF;
+        int outcomeCount = wide ? in.getInt() : in.getShort() & 0xFFFF;
+        if (outcomeCount < 0 || outcomeCount > in.remaining()) {
+            throw new IllegalArgumentException("Bad outcome count " + outcomeCount);
+        }
+        byte[] outcomes = new byte[outcomeCount];
+        in.get(outcomes);
+        return new GameResult(finishedAt, difficulty(board), score, hearts, completed, total, outcomes);
+    }
+
+    /**
+     * Rewrites a version 1 log in the current format before it is opened,
+     * keeping every complete record; a torn tail is dropped like on a normal
+     * open. The old leaderboard index no longer matches the version and is
+     * rebuilt from the log.
+     */
+    private static void upgrade(Path logFile) throws IOException {
+        if (!Files.exists(logFile) || Files.size(logFile) < LOG_HEADER_SIZE) {
+            return;
+        }
+        Path temp = logFile.resolveSibling(logFile.getFileName() + ".tmp");
+        try {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFile), 1 << 16))) {
+                if (in.readInt() != LOG_MAGIC || in.readShort() != VERSION_U16_ROUNDS) {
+                    return;
+                }
+                in.readShort();
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                    out.writeInt(LOG_MAGIC);
+                    out.writeShort(VERSION);
+                    out.writeShort(0);
+                    CRC32 crc = new CRC32();
+                    byte[] payload = new byte[256];
+                    ByteBuffer upgraded = ByteBuffer.allocate(256);
+                    while (true) {
+                        int length;
+                        int checksum;
+                        try {
+                            length = in.readInt();
+                            checksum = in.readInt();
+                            if (length < PAYLOAD_FIXED_SIZE_U16_ROUNDS || length > 0xFFFF + PAYLOAD_FIXED_SIZE_U16_ROUNDS) {
+                                break;
+                            }
+                            if (payload.length < length) {
+                                payload = new byte[length];
+                            }
+                            in.readFully(payload, 0, length);
+                        } catch (EOFException e) {
+                            break;
+                        }
+                        crc.reset();
+                        crc.update(payload, 0, length);
+                        if ((int) crc.getValue() != checksum) {
+                            break;
+                        }
+                        GameResult result = decode(ByteBuffer.wrap(payload, 0, length), VERSION_U16_ROUNDS);
+                        int upgradedLength = PAYLOAD_FIXED_SIZE + result.outcomeCount();
+                        if (upgraded.capacity() < upgradedLength) {
+                            upgraded = ByteBuffer.allocate(upgradedLength);
+                        }
+                        upgraded.clear();
+                        encode(result, upgraded);
+                        crc.reset();
+                        crc.update(upgraded.array(), 0, upgradedLength);
+                        out.writeInt(upgradedLength);
+                        out.writeInt((int) crc.getValue());
+                        out.write(upgraded.array(), 0, upgradedLength);
+                    }
+                }
+            }
+            try (FileChannel upgraded = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                upgraded.force(true);
+            }
+            Files.move(temp, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.err.println("Upgraded game history log " + logFile + " to version " + VERSION);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeIndex() throws IOException {
+        lastIndexNanos = System.nanoTime();
+        if (indexedLength == logLength) {
+            return;
+        }
+        Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeShort(VERSION);
+                out.writeShort(LEADERBOARD_SIZE);
+                out.writeLong(logLength);
+                for (GameResult[] board : boards) {
+                    out.writeShort(board.length);
+                    for (GameResult result : board) {
+                        out.writeLong(result.getFinishedAtMillis());
+                        out.writeInt(result.getScore());
+                        out.writeByte(result.getHearts());
+                        out.writeInt(result.getCompletedRounds());
+                        out.writeInt(result.getTotalRounds());
+                    }
+                }
+            }
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            indexedLength = logLength;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Inserts {@code result} into its leaderboard if it makes the top N;
+     * O(N) with N = {@link #LEADERBOARD_SIZE}.
+     */
+    private void offer(GameResult result) {
+        int board = slot(result.getDifficulty());
+        GameResult[] entries = boards[board];
+        int at = entries.length;
+        while (at > 0 && ranksAbove(result, entries[at - 1])) {
+            at--;
+        }
+        if (at >= LEADERBOARD_SIZE) {
+            return;
+        }
+        GameResult[] updated = Arrays.copyOf(entries, Math.min(entries.length + 1, LEADERBOARD_SIZE));
+        System.arraycopy(entries, at, updated, at + 1, updated.length - at - 1);
+        // Keep only the totals; per-round outcomes stay in the log
+        updated[at] = result.outcomeCount() == 0 ? result : new GameResult(result.getFinishedAtMillis(),
+            result.getDifficulty(), result.getScore(), result.getHearts(),
+            result.getCompletedRounds(), result.getTotalRounds(), new byte[0]);
+        boards[board] = updated;
+    }
+
+    // Higher score first, then more hearts left, then whoever got there first
+    private static boolean ranksAbove(GameResult a, GameResult b) {
+        if (a.getScore() != b.getScore()) {
+            return a.getScore() > b.getScore();
+        }
+        if (a.getHearts() != b.getHearts()) {
+            return a.getHearts() > b.getHearts();
+        }
+        return a.getFinishedAtMillis() < b.getFinishedAtMillis();
+    }
+
+    private void publish() {
+        synchronized (published) {
+            for (int i = 0; i < BOARDS; i++) {
+                published.set(i, Collections.unmodifiableList(Arrays.asList(boards[i].clone())));
+            }
+        }
+    }
+
+    private static int slot(Proverb.Difficulty difficulty) {
+        return difficulty == null ? BOARDS - 1 : difficulty.ordinal();
+    }
+
+    private static Proverb.Difficulty difficulty(int slot) {
+        return slot >= 0 && slot < BOARDS - 1 ? Proverb.Difficulty.values()[slot] : null;
+    }
+}
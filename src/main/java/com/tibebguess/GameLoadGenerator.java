@@ -0,0 +1,250 @@
+package com.tibebguess;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameLoadGenerator
+ *
+ * Local load generator for {@link GameServer}. Opens the requested number of
+ * sessions at once and plays every game to the end (reveal, answer, wait for
+ * the next round), then prints throughput, latency percentiles and the peak
+ * number of concurrent sessions the server reported.
+ *
+ * Usage: GameLoadGenerator [sessions] [port] [maxInFlight]
+ * A port of 0 starts an embedded server in this JVM.
+ */
+public final class GameLoadGenerator {
+    private static final int MAX_SAMPLES = 4_000_000;
+    /** Latency slots kept per session; a game takes a few requests per round. */
+    private static final int SAMPLES_PER_SESSION = 128;
+    private static final long POLL_DELAY_MS = 250;
+    private static final long NEXT_ROUND_WAIT_MS = 1600;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final long[] latencies;
+    private final AtomicInteger latencyCount = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicInteger gamesFinished = new AtomicInteger();
+    private final AtomicInteger peakSessions = new AtomicInteger();
+
+    private GameLoadGenerator(String baseUrl, int sessions, int maxInFlight, ExecutorService executor) {
+        this.baseUrl = baseUrl;
+        this.maxInFlight = maxInFlight;
+        this.latencies = new long[(int) Math.min(MAX_SAMPLES, (long) sessions * SAMPLES_PER_SESSION)];
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(executor)
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        int maxInFlight = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+
+        GameServer embedded = null;
+        if (port == 0) {
+            embedded = new GameServer(ProverbCatalog.get().getProverbs(), GameScheduler.shared());
+            embedded.start(0);
+            port = embedded.getPort();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        GameLoadGenerator generator = new GameLoadGenerator("http://localhost:" + port, sessions, maxInFlight, executor);
+        try {
+            generator.run(sessions);
+        } finally {
+            executor.shutdownNow();
+            if (embedded != null) {
+                embedded.stop();
+            }
+        }
+    }
+
+    private void run(int sessions) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(sessions);
+        SplittableRandom random = new SplittableRandom(7);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < sessions; i++) {
+            boolean skilled = random.nextBoolean();
+            // Each session's requests run one after another, so it can own a generator
+            SplittableRandom answers = random.split();
+            request("POST", "/sessions?difficulty=MEDIUM").whenComplete((body, error) -> {
+                String id = error == null ? field(body, "id") : null;
+                if (id == null) {
+                    errors.incrementAndGet();
+                    done.countDown();
+                    return;
+                }
+                play(id, skilled, answers, done);
+            });
+        }
+
+        GameScheduler.Task sampler = GameScheduler.shared().scheduleAtFixedRate(() ->
+            request("GET", "/stats").thenAccept(body -> {
+                String count = field(body, "sessions");
+                if (count != null) {
+                    peakSessions.accumulateAndGet(Integer.parseInt(count), Math::max);
+                }
+            }), 500, 500);
+
+        done.await();
+        sampler.cancel();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int count = Math.min(latencyCount.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        System.out.printf("sessions=%d finished=%d peakConcurrentSessions=%d errors=%d%n",
+            sessions, gamesFinished.get(), peakSessions.get(), errors.get());
+        System.out.printf("requests=%d in %.1fs (%.0f req/s)%n", requests.get(), seconds, requests.get() / seconds);
+        System.out.printf("latency ms: p50=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+            percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999), percentile(sorted, 1.0));
+    }
+
+    private void play(String id, boolean skilled, SplittableRandom answers, CountDownLatch done) {
+        request("POST", "/sessions/" + id + "/reveal").whenComplete((revealed, error) -> {
+            if (error != null) {
+                fail(done);
+                return;
+            }
+            if (!"REVEALED".equals(field(revealed, "phase"))) {
+                poll(id, skilled, answers, done, POLL_DELAY_MS);
+                return;
+            }
+            boolean correct = answers.nextDouble() < (skilled ? 0.8 : 0.4);
+            request("POST", "/sessions/" + id + "/answer?correct=" + correct).whenComplete((answered, answerError) -> {
+                if (answerError != null) {
+                    fail(done);
+                } else {
+                    poll(id, skilled, answers, done, NEXT_ROUND_WAIT_MS);
+                }
+            });
+        });
+    }
+
+    private void poll(String id, boolean skilled, SplittableRandom answers, CountDownLatch done, long delayMs) {
+        Executor later = CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS);
+        CompletableFuture.runAsync(() -> request("GET", "/sessions/" + id).whenComplete((state, error) -> {
+            if (error != null) {
+                fail(done);
+                return;
+            }
+            String phase = field(state, "phase");
+            if ("FINISHED".equals(phase)) {
+                gamesFinished.incrementAndGet();
+                request("DELETE", "/sessions/" + id).whenComplete((ignored, e) -> done.countDown());
+            } else if ("ROUND".equals(phase)) {
+                play(id, skilled, answers, done);
+            } else {
+                poll(id, skilled, answers, done, POLL_DELAY_MS);
+            }
+        }), later);
+    }
+
+    private void fail(CountDownLatch done) {
+        errors.incrementAndGet();
+        done.countDown();
+    }
+
+    /**
+     * Sends a request once fewer than {@code maxInFlight} are outstanding.
+     */
+    private CompletableFuture<String> request(String method, String path) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        waiting.add(() -> send(method, path, result));
+        drain();
+        return result;
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty()) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable next = waiting.poll();
+            if (next == null) {
+                inFlight.decrementAndGet();
+                return;
+            }
+            next.run();
+        }
+    }
+
+    private void send(String method, String path, CompletableFuture<String> result) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .method(method, HttpRequest.BodyPublishers.noBody())
+            .build();
+        long start = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            int index = latencyCount.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = System.nanoTime() - start;
+            }
+            requests.incrementAndGet();
+            inFlight.decrementAndGet();
+            drain();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(response.body());
+            }
+        });
+    }
+
+    /**
+     * Extracts a top-level string or number field from the server's flat JSON.
+     */
+    private static String field(String json, String name) {
+        String key = "\"" + name + "\":";
+        int at = json.indexOf(key);
+        if (at < 0) {
+            return null;
+        }
+        int start = at + key.length();
+        if (json.charAt(start) == '"') {
+            int end = json.indexOf('"', start + 1);
+            return json.substring(start + 1, end);
+        }
+        int end = start;
+        while (end < json.length() && json.charAt(end) != ',' && json.charAt(end) != '}') {
+            end++;
+        }
+        return json.substring(start, end);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -1,11 +1,15 @@
 package com.tibebguess;
 
+import java.util.function.UnaryOperator;
+
 /**
  * GameManager
  *
  * Concrete implementation of {@link AbstractGameManager}. All UI specific
  * logic lives here while the base class encapsulates the shared mechanics. This
- * showcases inheritance and polymorphism.
+ * showcases inheritance and polymorphism. Each hook folds its change into an
+ * immutable {@link GameSnapshot} and hands it to the controller, which renders
+ * only the latest snapshot once per frame.
  */
 public class GameManager extends AbstractGameManager {
     private static final int INITIAL_HEARTS = 3;
@@ -13,6 +17,7 @@ public class GameManager extends AbstractGameManager {
     private static final int SCORE_PER_CORRECT = 10;
 
     private final GameController controller;
+    private GameSnapshot snapshot = GameSnapshot.INITIAL;
 
     public GameManager(GameController controller) {
         super(INITIAL_HEARTS, ROUND_TIME_SECONDS, SCORE_PER_CORRECT);
@@ -21,44 +26,53 @@ public class GameManager extends AbstractGameManager {
 
     @Override
     protected void onRoundStarted(Proverb proverb) {
-        controller.showProverbImage(proverb);
-        controller.resetRoundUI();
-        controller.updateUI();
+        publish(s -> s.withRound(proverb));
+    }
+
+    @Override
+    protected void onTimerStarted(long deadlineNanos) {
+        // The shared scheduler's clock is System.nanoTime, which the UI counts down against
+        publish(s -> s.withCountdown(deadlineNanos));
     }
 
     @Override
-    protected void onTimerUpdated(int secondsRemaining) {
-        controller.updateTimer(secondsRemaining);
+    protected void onTimerStopped(int secondsRemaining) {
+        publish(s -> s.withSecondsRemaining(secondsRemaining));
     }
 
     @Override
     protected void onStatusChanged(int score, int hearts) {
-        controller.updateUI();
+        publish(s -> s.withStatus(score, hearts, getSelectedDifficulty()));
     }
 
     @Override
     protected void onProverbRevealed(Proverb proverb, String reason) {
-        controller.revealAnswer(proverb, reason);
-        controller.showFeedback(reason);
+        publish(s -> s.withRevealed(reason));
     }
 
     @Override
     protected void onAnswerEvaluated(boolean isCorrect, int score, int hearts) {
         if (isCorrect) {
-            controller.showFeedback("Correct! +" + SCORE_PER_CORRECT + " points");
+            int points = getRules().getPointsForCorrect(getSelectedDifficulty());
+            publish(s -> s.withFeedback("Correct! +" + points + " points"));
         } else {
-            controller.showFeedback("Wrong! -1 heart");
+            publish(s -> s.withFeedback("Wrong! -1 heart"));
         }
     }
 
     @Override
     protected void onGameFinished(int score, int hearts, int completedRounds, int totalRounds) {
-        controller.showFinalResult(score, hearts, completedRounds, totalRounds);
+        publish(s -> s.withFinished(score, hearts, completedRounds, totalRounds));
     }
 
     @Override
     protected void onInitializationError(String message) {
-        controller.showFeedback(message);
+        publish(s -> s.withFeedback(message));
     }
-}
 
+    // Hooks fire on both the FX thread and the scheduler thread
+    private synchronized void publish(UnaryOperator<GameSnapshot> change) {
+        snapshot = change.apply(snapshot);
+        controller.render(snapshot);
+    }
+}
@@ -0,0 +1,305 @@
+package com.tibebguess;
+
+import javafx.scene.Scene;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * GameMetrics
+ *
+ * Latency histograms for the game loop, enabled with {@code -Dtibeb.metrics=true}:
+ * how long each game manager hook takes, how long an image takes to decode,
+ * how long the CSS and layout part of a JavaFX pulse takes and how late the
+ * round deadlines fire, plus the hit, miss and eviction counts of the
+ * watched {@link ImageCache}. While enabled the numbers are published as the
+ * JMX MXBean {@code com.tibebguess:type=GameMetrics} and printed every
+ * {@code tibeb.metrics.logIntervalSeconds} (60 by default):
+ * <pre>
+ * metrics: hook.roundStarted count=12 p50=48us p90=95us p99=310us p99.9=310us max=310us
+ * metrics: imageCache entries=9 bytes=18874368/67108864 hits=40 misses=9 evictions=0
+ * </pre>
+ * When disabled every recording call is a check of a static final flag,
+ * which the JIT folds away.
+ */
+public final class GameMetrics {
+    /** System property that turns metrics on. */
+    public static final String ENABLED_PROPERTY = "tibeb.metrics";
+
+    /** System property with the log dump interval in seconds; 0 turns the dump off. */
+    public static final String LOG_INTERVAL_PROPERTY = "tibeb.metrics.logIntervalSeconds";
+
+    /** Name the MXBean is registered under. */
+    public static final String OBJECT_NAME = "com.tibebguess:type=GameMetrics";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    /**
+     * Everything that is measured.
+     */
+    public enum Metric {
+        ROUND_STARTED("hook.roundStarted"),
+        TIMER_STARTED("hook.timerStarted"),
+        TIMER_STOPPED("hook.timerStopped"),
+        STATUS_CHANGED("hook.statusChanged"),
+        PROVERB_REVEALED("hook.proverbRevealed"),
+        ANSWER_EVALUATED("hook.answerEvaluated"),
+        GAME_FINISHED("hook.gameFinished"),
+        IMAGE_LOAD("image.load"),
+        FX_PULSE("fx.pulse"),
+        TIMER_JITTER("timer.jitter");
+
+        private final String label;
+
+        Metric(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final LatencyHistogram[] histograms;
+    private static volatile ImageCache imageCache;
+
+    static {
+        if (ENABLED) {
+            histograms = new LatencyHistogram[Metric.values().length];
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+            register();
+            long interval = Long.getLong(LOG_INTERVAL_PROPERTY, 60);
+            if (interval > 0) {
+                GameScheduler.shared().scheduleAtFixedRate(GameMetrics::log, interval * 1000, interval * 1000);
+            }
+        } else {
+            histograms = null;
+        }
+    }
+
+    private GameMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns a start timestamp to pass to {@link #stop}, or 0 when disabled.
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos} from {@link #start}.
+     */
+    public static void stop(Metric metric, long startNanos) {
+        if (ENABLED) {
+            histograms[metric.ordinal()].record(System.nanoTime() - startNanos);
+        }
+    }
+
+    public static void record(Metric metric, long nanos) {
+        if (ENABLED) {
+            histograms[metric.ordinal()].record(nanos);
+        }
+    }
+
+    /**
+     * Measures the CSS and layout pass of every pulse of {@code scene}; the
+     * pre-layout listeners run before CSS is applied.
+     */
+    public static void instrumentPulses(Scene scene) {
+        if (!ENABLED) {
+            return;
+        }
+        long[] pulseStart = new long[1];
+        scene.addPreLayoutPulseListener(() -> pulseStart[0] = System.nanoTime());
+        scene.addPostLayoutPulseListener(() -> record(Metric.FX_PULSE, System.nanoTime() - pulseStart[0]));
+    }
+
+    /**
+     * Publishes the counters of {@code cache} with the latency metrics; the
+     * counters are the cache's own and {@link #reset} leaves them alone.
+     */
+    public static void watchImageCache(ImageCache cache) {
+        if (ENABLED) {
+            imageCache = cache;
+        }
+    }
+
+    /**
+     * Returns the current percentiles of every metric that has recordings.
+     */
+    public static List<MetricSummary> summaries() {
+        List<MetricSummary> summaries = new ArrayList<>();
+        if (!ENABLED) {
+            return summaries;
+        }
+        for (Metric metric : Metric.values()) {
+            LatencyHistogram histogram = histograms[metric.ordinal()];
+            if (histogram.getCount() > 0) {
+                summaries.add(new MetricSummary(metric.getLabel(), histogram));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Returns one line per metric with recordings, as printed by the log dump.
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        for (MetricSummary summary : summaries()) {
+            report.append("metrics: ").append(summary.getName())
+                .append(" count=").append(summary.getCount());
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                report.append(" p").append(formatPercentile(PERCENTILES[i])).append('=')
+                    .append(formatMicros(summary.percentileMicros[i]));
+            }
+            report.append(" max=").append(formatMicros(summary.getMaxMicros())).append(System.lineSeparator());
+        }
+        ImageCache cache = imageCache;
+        if (cache != null) {
+            report.append("metrics: imageCache entries=").append(cache.size())
+                .append(" bytes=").append(cache.getCurrentBytes()).append('/').append(cache.getMaxBytes())
+                .append(" hits=").append(cache.getHits())
+                .append(" misses=").append(cache.getMisses())
+                .append(" evictions=").append(cache.getEvictions()).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    public static void reset() {
+        if (ENABLED) {
+            for (LatencyHistogram histogram : histograms) {
+                histogram.reset();
+            }
+        }
+    }
+
+    private static void log() {
+        String report = report();
+        if (!report.isEmpty()) {
+            System.out.print(report);
+        }
+    }
+
+    private static void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new GameMetricsMXBean() {
+                @Override
+                public List<MetricSummary> getMetrics() {
+                    return summaries();
+                }
+
+                @Override
+                public String getReport() {
+                    return report();
+                }
+
+                @Override
+                public long getImageCacheHits() {
+                    ImageCache cache = imageCache;
+                    return cache == null ? 0 : cache.getHits();
+                }
+
+                @Override
+                public long getImageCacheMisses() {
+                    ImageCache cache = imageCache;
+                    return cache == null ? 0 : cache.getMisses();
+                }
+
+                @Override
+                public long getImageCacheEvictions() {
+                    ImageCache cache = imageCache;
+                    return cache == null ? 0 : cache.getEvictions();
+                }
+
+                @Override
+                public long getImageCacheBytes() {
+                    ImageCache cache = imageCache;
+                    return cache == null ? 0 : cache.getCurrentBytes();
+                }
+
+                @Override
+                public void reset() {
+                    GameMetrics.reset();
+                }
+            }, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.err.println("Could not register game metrics MXBean: " + e.getMessage());
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static String formatMicros(double micros) {
+        return micros >= 100 ? Math.round(micros) + "us" : String.format(Locale.ROOT, "%.1fus", micros);
+    }
+
+    /**
+     * Percentiles of one metric in microseconds; exposed through JMX as
+     * composite data.
+     */
+    public static final class MetricSummary {
+        private final String name;
+        private final long count;
+        private final double meanMicros;
+        private final double maxMicros;
+        private final double[] percentileMicros = new double[PERCENTILES.length];
+
+        MetricSummary(String name, LatencyHistogram histogram) {
+            this.name = name;
+            this.count = histogram.getCount();
+            this.meanMicros = histogram.getMean() / 1000.0;
+            this.maxMicros = histogram.getMax() / 1000.0;
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                percentileMicros[i] = histogram.getValueAtPercentile(PERCENTILES[i]) / 1000.0;
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMicros() {
+            return meanMicros;
+        }
+
+        public double getP50Micros() {
+            return percentileMicros[0];
+        }
+
+        public double getP90Micros() {
+            return percentileMicros[1];
+        }
+
+        public double getP99Micros() {
+            return percentileMicros[2];
+        }
+
+        public double getP999Micros() {
+            return percentileMicros[3];
+        }
+
+        public double getMaxMicros() {
+            return maxMicros;
+        }
+    }
+}
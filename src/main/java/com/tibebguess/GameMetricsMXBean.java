@@ -0,0 +1,47 @@
+package com.tibebguess;
+
+import java.util.List;
+
+/**
+ * GameMetricsMXBean
+ *
+ * JMX view of {@link GameMetrics}, registered as
+ * {@code com.tibebguess:type=GameMetrics} when metrics are enabled.
+ */
+public interface GameMetricsMXBean {
+
+    /**
+     * Percentiles in microseconds of every metric that has recordings.
+     */
+    List<GameMetrics.MetricSummary> getMetrics();
+
+    /**
+     * The same numbers as the periodic log dump.
+     */
+    String getReport();
+
+    /**
+     * Lookups served from the decoded image cache since startup.
+     */
+    long getImageCacheHits();
+
+    /**
+     * Lookups that had to decode the image.
+     */
+    long getImageCacheMisses();
+
+    /**
+     * Images dropped to keep the cache within its byte budget.
+     */
+    long getImageCacheEvictions();
+
+    /**
+     * Decoded pixel bytes currently held by the cache.
+     */
+    long getImageCacheBytes();
+
+    /**
+     * Clears all histograms, e.g. before measuring one game.
+     */
+    void reset();
+}
@@ -0,0 +1,149 @@
+package com.tibebguess;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * GameReplay
+ *
+ * Plays games recorded in a {@link GameEventLog} again through
+ * {@link HeadlessGameManager} on a virtual clock, as fast as the CPU allows:
+ * each game is reshuffled from its seed and the recorded reveals and answers
+ * are fed back in. The replayed result is compared with the recorded one, so
+ * a scoring change can be checked against thousands of real games and a
+ * reported game can be stepped through again.
+ *
+ * Games whose proverbs were picked by the adaptive or learning mode, and
+ * games that were stopped before the end, are skipped.
+ *
+ * Usage: GameReplay events.log [proverbs.pack]
+ */
+public final class GameReplay implements HeadlessGameManager.Player {
+    private static final int MAX_REPORTED = 20;
+
+    // Per recorded round: reveal delay (-1 = timed out), answer and proverb text hash
+    private long[] revealMillis = new long[0];
+    private boolean[] correct = new boolean[0];
+    private int[] textHashes = new int[0];
+    private int rounds;
+    private int round;
+    private int divergedAt;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: GameReplay events.log [proverbs.pack]");
+            System.exit(2);
+        }
+        List<Proverb> proverbs = args.length > 1 ? ProverbLoader.loadFromPack(Paths.get(args[1])) : ProverbCatalog.get().getProverbs();
+        if (proverbs.isEmpty()) {
+            proverbs = ProverbLoader.loadFromFile("/proverbs.txt");
+        }
+
+        long start = System.nanoTime();
+        List<GameEventLog.Game> games = GameEventLog.read(Paths.get(args[0]));
+        GameReplay replay = new GameReplay();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), replay);
+        manager.initializeProverbs(proverbs);
+
+        int replayed = 0;
+        int skipped = 0;
+        int differing = 0;
+        for (int i = 0; i < games.size(); i++) {
+            GameEventLog.Game game = games.get(i);
+            GameEventLog.Event result = game.getResult();
+            if (!game.isReplayable() || result == null) {
+                skipped++;
+                continue;
+            }
+            replay.load(game);
+            manager.setDifficulty(game.getDifficulty());
+            manager.play(game.getSeed());
+            replayed++;
+
+            String difference = replay.compare(manager, result);
+            if (difference != null && differing++ < MAX_REPORTED) {
+                System.out.println("game " + i + " (seed " + game.getSeed() + ", "
+                    + (game.getDifficulty() == null ? "RANDOM" : game.getDifficulty()) + "): " + difference);
+            }
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("replayed %d games (%d skipped) in %.0f ms: %d matched, %d differed%n",
+            replayed, skipped, millis, replayed - differing, differing);
+        if (differing > 0) {
+            System.exit(1);
+        }
+    }
+
+    @Override
+    public long revealDelayMillis(Proverb proverb, int roundTimeSeconds) {
+        int current = round++;
+        if (current >= rounds) {
+            return -1;
+        }
+        if (divergedAt < 0 && proverb.getText().hashCode() != textHashes[current]) {
+            divergedAt = current;
+        }
+        return revealMillis[current];
+    }
+
+    @Override
+    public boolean answer(Proverb proverb) {
+        int current = round - 1;
+        return current < rounds && correct[current];
+    }
+
+    // Collects the per-round actions of a recorded game
+    void load(GameEventLog.Game game) {
+        List<GameEventLog.Event> events = game.getEvents();
+        if (revealMillis.length < events.size()) {
+            revealMillis = new long[events.size()];
+            correct = new boolean[events.size()];
+            textHashes = new int[events.size()];
+        }
+        rounds = 0;
+        round = 0;
+        divergedAt = -1;
+        long sinceRoundStart = 0;
+        boolean revealed = false;
+        for (GameEventLog.Event event : events) {
+            sinceRoundStart += event.getMillis();
+            switch (event.getType()) {
+                case GameEventLog.ROUND_STARTED:
+                    textHashes[rounds] = (int) event.value(2);
+                    revealMillis[rounds] = -1;
+                    correct[rounds] = false;
+                    rounds++;
+                    sinceRoundStart = 0;
+                    revealed = false;
+                    break;
+                case GameEventLog.REVEALED:
+                    revealed = true;
+                    revealMillis[rounds - 1] = event.value(0) != 0 ? sinceRoundStart : -1;
+                    break;
+                case GameEventLog.ANSWERED:
+                    if (!revealed) {
+                        revealMillis[rounds - 1] = sinceRoundStart; // answered without a reveal
+                    }
+                    correct[rounds - 1] = event.value(0) != 0;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    // Returns how the replayed game differs from the recorded result, or null if it matches
+    String compare(HeadlessGameManager manager, GameEventLog.Event result) {
+        if (divergedAt >= 0) {
+            return "different proverb in round " + (divergedAt + 1) + "; is the catalog the same?";
+        }
+        if (manager.getScore() != result.value(0) || manager.getHearts() != result.value(1)
+                || manager.getCompletedRounds() != result.value(2) || manager.getTotalRounds() != result.value(3)) {
+            return String.format("recorded score=%d hearts=%d rounds=%d/%d, replayed score=%d hearts=%d rounds=%d/%d",
+                result.value(0), result.value(1), result.value(2), result.value(3),
+                manager.getScore(), manager.getHearts(), manager.getCompletedRounds(), manager.getTotalRounds());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.tibebguess;
+
+import java.util.Arrays;
+
+/**
+ * GameResult
+ *
+ * One finished game as stored in the {@link GameHistory}: final score and
+ * hearts, the difficulty it was played at and one outcome byte per answered
+ * round.
+ */
+public final class GameResult {
+    /** Outcome flag: the round was answered correctly. */
+    public static final byte ROUND_CORRECT = 1;
+    /** Outcome flag: the proverb was revealed because the round timed out. */
+    public static final byte ROUND_TIMED_OUT = 2;
+
+    private final long finishedAtMillis;
+    private final Proverb.Difficulty difficulty;
+    private final int score;
+    private final int hearts;
+    private final int completedRounds;
+    private final int totalRounds;
+    private final byte[] outcomes;
+
+    public GameResult(long finishedAtMillis, Proverb.Difficulty difficulty, int score, int hearts,
+                      int completedRounds, int totalRounds, byte[] outcomes) {
+        this.finishedAtMillis = finishedAtMillis;
+        this.difficulty = difficulty;
+        this.score = score;
+        this.hearts = hearts;
+        this.completedRounds = completedRounds;
+        this.totalRounds = totalRounds;
+        this.outcomes = outcomes.clone();
+    }
+
+    public long getFinishedAtMillis() {
+        return finishedAtMillis;
+    }
+
+    /**
+     * Returns the difficulty the game was played at, or null in random mode.
+     */
+    public Proverb.Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getHearts() {
+        return hearts;
+    }
+
+    public int getCompletedRounds() {
+        return completedRounds;
+    }
+
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+
+    /**
+     * Returns the {@code ROUND_*} flags of each answered round in play order;
+     * empty for leaderboard entries, which keep only the totals.
+     */
+    public byte[] getOutcomes() {
+        return outcomes.clone();
+    }
+
+    int outcomeCount() {
+        return outcomes.length;
+    }
+
+    byte outcomeAt(int round) {
+        return outcomes[round];
+    }
+
+    @Override
+    public String toString() {
+        return "GameResult{difficulty=" + (difficulty == null ? "RANDOM" : difficulty)
+            + ", score=" + score + ", hearts=" + hearts
+            + ", rounds=" + completedRounds + "/" + totalRounds
+            + ", outcomes=" + Arrays.toString(outcomes) + "}";
+    }
+}
@@ -0,0 +1,73 @@
+package com.tibebguess;
+
+/**
+ * GameRules
+ *
+ * The scoring and timing rules shared by every game variant: starting
+ * hearts, round length and points per correct answer, each scaled by the
+ * selected difficulty. Kept free of UI and clock concerns so the same rules
+ * drive the JavaFX game, headless simulations and server sessions.
+ */
+public final class GameRules {
+    /** The rules used by the desktop game. */
+    public static final GameRules STANDARD = new GameRules(3, 30, 10);
+
+    private final int initialHearts;
+    private final int roundTimeSeconds;
+    private final int pointsPerCorrect;
+
+    public GameRules(int initialHearts, int roundTimeSeconds, int pointsPerCorrect) {
+        this.initialHearts = initialHearts;
+        this.roundTimeSeconds = roundTimeSeconds;
+        this.pointsPerCorrect = pointsPerCorrect;
+    }
+
+    public int getInitialHearts() {
+        return initialHearts;
+    }
+
+    /**
+     * Gets the round time based on difficulty level (null means random mode).
+     */
+    public int getRoundTimeSeconds(Proverb.Difficulty difficulty) {
+        if (difficulty == null) {
+            return roundTimeSeconds;
+        }
+        switch (difficulty) {
+            case EASY:
+                return roundTimeSeconds; // 30 seconds for easy
+            case MEDIUM:
+                return roundTimeSeconds - 10; // 20 seconds for medium
+            case HARD:
+                return roundTimeSeconds - 15; // 15 seconds for hard
+            default:
+                return roundTimeSeconds;
+        }
+    }
+
+    /**
+     * Gets the points awarded for correct answers based on difficulty level.
+     */
+    public int getPointsForCorrect(Proverb.Difficulty difficulty) {
+        if (difficulty == null) {
+            return pointsPerCorrect;
+        }
+        switch (difficulty) {
+            case EASY:
+                return pointsPerCorrect; // 10 points for easy
+            case MEDIUM:
+                return pointsPerCorrect + 5; // 15 points for medium
+            case HARD:
+                return pointsPerCorrect + 10; // 20 points for hard
+            default:
+                return pointsPerCorrect;
+        }
+    }
+
+    /**
+     * A game ends when the hearts run out or every proverb has been played.
+     */
+    public boolean isGameOver(int hearts, int currentIndex, int totalRounds) {
+        return hearts <= 0 || currentIndex >= totalRounds;
+    }
+}
@@ -0,0 +1,45 @@
+package com.tibebguess;
+
+/**
+ * GameScheduler
+ *
+ * Abstraction over the clock that drives round countdowns and transitions.
+ * All games in the process share one scheduler instead of creating a thread
+ * per round, and tests or simulations can plug in a
+ * {@link VirtualGameScheduler} to run without real waiting.
+ */
+public interface GameScheduler {
+
+    /**
+     * Handle for a scheduled task.
+     */
+    interface Task {
+        /**
+         * Cancels the task; it is safe to call this more than once.
+         */
+        void cancel();
+    }
+
+    /**
+     * Runs {@code task} once after {@code delayMillis}.
+     */
+    Task schedule(Runnable task, long delayMillis);
+
+    /**
+     * Runs {@code task} repeatedly, first after {@code initialDelayMillis} and
+     * then every {@code periodMillis}, until cancelled.
+     */
+    Task scheduleAtFixedRate(Runnable task, long initialDelayMillis, long periodMillis);
+
+    /**
+     * Current time of this scheduler's clock, in nanoseconds.
+     */
+    long nanoTime();
+
+    /**
+     * Returns the scheduler shared by every game in the process.
+     */
+    static GameScheduler shared() {
+        return SharedGameScheduler.getInstance();
+    }
+}
@@ -0,0 +1,379 @@
+package com.tibebguess;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * GameServer
+ *
+ * Hosts many independent {@link GameSession}s in one JVM behind a small local
+ * HTTP/JSON endpoint, for classroom and event deployments. Sessions share one
+ * immutable proverb catalog and the process-wide {@link GameScheduler}, so a
+ * session costs a few objects rather than a thread.
+ *
+ * Endpoints:
+ * <pre>
+ * POST   /sessions?difficulty=EASY|MEDIUM|HARD|RANDOM   create and start a game
+ *        &amp;adaptive=true                                 rounds picked by the shared AdaptiveDifficulty
+ *        &amp;player=name                                   learning mode on that player's cards
+ * GET    /sessions/{id}                                 current state
+ * POST   /sessions/{id}/reveal                          reveal the proverb early
+ * POST   /sessions/{id}/answer?correct=true|false       answer a revealed proverb
+ * DELETE /sessions/{id}                                 end the session
+ * GET    /stats                                         server counters
+ * GET    /leaderboard?difficulty=EASY|MEDIUM|HARD|RANDOM best finished games
+ * </pre>
+ * Finished games are recorded in a {@link GameHistory} and proverb outcomes
+ * counted in {@link ProverbStats} when they are given; learning mode needs
+ * {@link #setSpacedRepetition}, and with {@code -Dtibeb.eventLog=file} every
+ * game is appended to a {@link GameEventLog}.
+ *
+ * Usage: GameServer [port]
+ */
+public class GameServer {
+    private static final int DEFAULT_PORT = 8080;
+    private static final long IDLE_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final long REAPER_PERIOD_MS = 60_000;
+
+    private final List<Proverb> catalog;
+    private final GameScheduler scheduler;
+    private final GameHistory history;
+    private final ProverbStats stats;
+    // Built by the first adaptive session; most servers never need one
+    private volatile AdaptiveDifficulty adaptive;
+    private volatile SpacedRepetition repetition;
+    private volatile GameEventLog eventLog;
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextSessionId = new AtomicLong();
+    private final AtomicLong gamesCreated = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService workers;
+    private GameScheduler.Task reaper;
+
+    public GameServer(List<Proverb> catalog, GameScheduler scheduler) {
+        this(catalog, scheduler, null, null);
+    }
+
+    public GameServer(List<Proverb> catalog, GameScheduler scheduler, GameHistory history, ProverbStats stats) {
+        this.catalog = SharedProverbs.of(catalog);
+        this.scheduler = scheduler;
+        this.history = history;
+        this.stats = stats;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        List<Proverb> proverbs = ProverbCatalog.get().getProverbs();
+        if (proverbs.isEmpty()) {
+            proverbs = ProverbLoader.loadFromFile("/proverbs.txt");
+        }
+        GameHistory history = GameHistory.open(GameHistory.defaultDirectory());
+        ProverbStats stats = ProverbStats.open(GameHistory.defaultDirectory());
+        SpacedRepetition cards = SpacedRepetition.open(GameHistory.defaultDirectory());
+        String events = System.getProperty(GameEventLog.FILE_PROPERTY);
+        GameEventLog eventLog = events == null || events.isBlank() ? null : GameEventLog.open(Paths.get(events));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                history.close();
+            } catch (IOException e) {
+                System.err.println("Could not save game history: " + e.getMessage());
+            }
+            try {
+                stats.close();
+            } catch (IOException e) {
+                System.err.println("Could not save proverb statistics: " + e.getMessage());
+            }
+            try {
+                cards.close();
+            } catch (IOException e) {
+                System.err.println("Could not save spaced repetition cards: " + e.getMessage());
+            }
+            try {
+                if (eventLog != null) {
+                    eventLog.close();
+                }
+            } catch (IOException e) {
+                System.err.println("Could not close game event log: " + e.getMessage());
+            }
+        }, "player-data-close"));
+        GameServer gameServer = new GameServer(proverbs, GameScheduler.shared(), history, stats);
+        gameServer.setSpacedRepetition(cards);
+        gameServer.setEventLog(eventLog);
+        gameServer.start(port);
+        System.out.println("Tibeb Guess server listening on http://localhost:" + port + " with " + proverbs.size() + " proverbs");
+    }
+
+    /**
+     * Lets sessions created with a {@code player} parameter play that
+     * player's due cards from {@code repetition}.
+     */
+    public void setSpacedRepetition(SpacedRepetition repetition) {
+        this.repetition = repetition;
+    }
+
+    /**
+     * Appends every game of sessions created from now on to {@code eventLog}.
+     */
+    public void setEventLog(GameEventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Binds the HTTP endpoint on localhost and starts the idle-session reaper.
+     */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 4096);
+        workers = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2), runnable -> {
+            Thread thread = new Thread(runnable, "game-server-worker");
+            thread.setDaemon(false);
+            return thread;
+        });
+        server.setExecutor(workers);
+        server.createContext("/sessions", this::handleSessions);
+        server.createContext("/stats", this::handleStats);
+        server.createContext("/leaderboard", this::handleLeaderboard);
+        server.start();
+        reaper = scheduler.scheduleAtFixedRate(this::reapIdleSessions, REAPER_PERIOD_MS, REAPER_PERIOD_MS);
+    }
+
+    public void stop() {
+        if (reaper != null) {
+            reaper.cancel();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+        sessions.values().forEach(GameSession::close);
+        sessions.clear();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void handleSessions(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            String method = exchange.getRequestMethod();
+            String[] parts = exchange.getRequestURI().getPath().split("/");
+            // parts: "", "sessions", id, action
+            if (parts.length == 2 && method.equals("POST")) {
+                createSession(exchange);
+                return;
+            }
+            if (parts.length < 3) {
+                send(exchange, 404, "{\"error\":\"not found\"}");
+                return;
+            }
+
+            GameSession session = sessions.get(parts[2]);
+            if (session == null) {
+                send(exchange, 404, "{\"error\":\"unknown session\"}");
+                return;
+            }
+
+            String action = parts.length > 3 ? parts[3] : "";
+            if (action.isEmpty() && method.equals("GET")) {
+                send(exchange, 200, session.toJson());
+            } else if (action.isEmpty() && method.equals("DELETE")) {
+                sessions.remove(session.getId());
+                session.close();
+                send(exchange, 200, session.toJson());
+            } else if (action.equals("reveal") && method.equals("POST")) {
+                boolean accepted = session.reveal();
+                send(exchange, accepted ? 200 : 409, session.toJson());
+            } else if (action.equals("answer") && method.equals("POST")) {
+                boolean correct = Boolean.parseBoolean(queryParams(exchange.getRequestURI()).get("correct"));
+                boolean accepted = session.answer(correct);
+                send(exchange, accepted ? 200 : 409, session.toJson());
+            } else {
+                send(exchange, 405, "{\"error\":\"unsupported request\"}");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error handling request " + exchange.getRequestURI() + ": " + e);
+            send(exchange, 500, "{\"error\":" + quote(String.valueOf(e.getMessage())) + "}");
+        }
+    }
+
+    private void createSession(HttpExchange exchange) throws IOException {
+        Map<String, String> params = queryParams(exchange.getRequestURI());
+        String level = params.getOrDefault("difficulty", "MEDIUM").toUpperCase();
+        Proverb.Difficulty difficulty;
+        try {
+            difficulty = level.equals("RANDOM") ? null : Proverb.Difficulty.valueOf(level);
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, "{\"error\":\"unknown difficulty\"}");
+            return;
+        }
+
+        String id = Long.toString(nextSessionId.incrementAndGet(), 36);
+        GameSession session = GameSession.create(id, catalog, difficulty, scheduler);
+        session.setGameHistory(history);
+        session.setProverbStats(stats);
+        if (Boolean.parseBoolean(params.get("adaptive"))) {
+            session.setAdaptiveDifficulty(adaptive()); // shared, so every session refines it
+        }
+        session.setEventLog(eventLog);
+        String learner = params.get("player");
+        if (learner != null && !learner.isEmpty() && repetition != null) {
+            session.setSpacedRepetition(repetition, learner);
+        }
+        if (!session.start()) {
+            send(exchange, 422, session.toJson());
+            return;
+        }
+        sessions.put(id, session);
+        gamesCreated.incrementAndGet();
+        send(exchange, 201, session.toJson());
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        send(exchange, 200, "{\"sessions\":" + sessions.size()
+            + ",\"gamesCreated\":" + gamesCreated.get()
+            + ",\"requests\":" + requests.get() + "}");
+    }
+
+    private void handleLeaderboard(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        if (history == null) {
+            send(exchange, 404, "{\"error\":\"no game history\"}");
+            return;
+        }
+        String level = queryParams(exchange.getRequestURI()).getOrDefault("difficulty", "MEDIUM").toUpperCase();
+        Proverb.Difficulty difficulty;
+        try {
+            difficulty = level.equals("RANDOM") ? null : Proverb.Difficulty.valueOf(level);
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, "{\"error\":\"unknown difficulty\"}");
+            return;
+        }
+        StringBuilder json = new StringBuilder("[");
+        for (GameResult result : history.getLeaderboard(difficulty)) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"score\":").append(result.getScore())
+                .append(",\"hearts\":").append(result.getHearts())
+                .append(",\"completedRounds\":").append(result.getCompletedRounds())
+                .append(",\"totalRounds\":").append(result.getTotalRounds())
+                .append(",\"finishedAt\":").append(result.getFinishedAtMillis())
+                .append('}');
+        }
+        send(exchange, 200, json.append(']').toString());
+    }
+
+    private void reapIdleSessions() {
+        long now = System.nanoTime();
+        sessions.values().removeIf(session -> {
+            if (now - session.getLastAccessNanos() > IDLE_TIMEOUT_NANOS) {
+                session.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private AdaptiveDifficulty adaptive() {
+        AdaptiveDifficulty engine = adaptive;
+        if (engine == null) {
+            synchronized (this) {
+                engine = adaptive;
+                if (engine == null) {
+                    engine = new AdaptiveDifficulty(catalog, GameRules.STANDARD, new Random());
+                    adaptive = engine;
+                }
+            }
+        }
+        return engine;
+    }
+
+    private static Map<String, String> queryParams(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) {
+                continue;
+            }
+            try {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                // malformed %-escape; skipped like a pair without '='
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Quotes a string as a JSON string literal.
+     */
+    static String quote(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"').toString();
+    }
+}
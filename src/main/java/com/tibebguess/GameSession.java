@@ -0,0 +1,215 @@
+package com.tibebguess;
+
+import java.util.List;
+
+/**
+ * GameSession
+ *
+ * One player's game hosted by {@link GameServer}. All state lives in the
+ * session itself; the proverb list is the server's shared immutable catalog.
+ * Every callback - HTTP requests and round deadlines on the shared scheduler -
+ * runs under the session lock, so a session behaves as if single threaded
+ * while thousands of sessions share a handful of threads.
+ */
+public class GameSession extends AbstractGameManager {
+
+    /** Where the session is in the round cycle. */
+    public enum Phase {
+        WAITING, ROUND, REVEALED, ANSWERED, FINISHED
+    }
+
+    /**
+     * Scheduler view that runs every task under the owning session's lock.
+     */
+    private static final class LockingScheduler implements GameScheduler {
+        private final GameScheduler delegate;
+
+        LockingScheduler(GameScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Task schedule(Runnable task, long delayMillis) {
+            return delegate.schedule(guarded(task), delayMillis);
+        }
+
+        @Override
+        public Task scheduleAtFixedRate(Runnable task, long initialDelayMillis, long periodMillis) {
+            return delegate.scheduleAtFixedRate(guarded(task), initialDelayMillis, periodMillis);
+        }
+
+        @Override
+        public long nanoTime() {
+            return delegate.nanoTime();
+        }
+
+        private Runnable guarded(Runnable task) {
+            return () -> {
+                synchronized (this) {
+                    task.run();
+                }
+            };
+        }
+    }
+
+    private final String id;
+    private final Object lock;
+    private volatile long lastAccessNanos;
+
+    private Phase phase = Phase.WAITING;
+    private Proverb currentProverb;
+    private String revealedText;
+    private String message = "";
+    private Boolean lastAnswerCorrect;
+
+    private GameSession(String id, LockingScheduler scheduler) {
+        super(GameRules.STANDARD, scheduler);
+        this.id = id;
+        this.lock = scheduler;
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a session over the shared proverb list, timed by {@code scheduler};
+     * pass a {@link ProverbSource} so the session neither copies nor filters it.
+     */
+    public static GameSession create(String id, List<Proverb> proverbs, Proverb.Difficulty difficulty, GameScheduler scheduler) {
+        GameSession session = new GameSession(id, new LockingScheduler(scheduler));
+        synchronized (session.lock) {
+            session.setDifficulty(difficulty);
+            session.initializeProverbs(proverbs);
+        }
+        return session;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * Starts the game; returns false if no proverbs match the difficulty.
+     */
+    public boolean start() {
+        synchronized (lock) {
+            touch();
+            startGame();
+            return phase != Phase.WAITING;
+        }
+    }
+
+    /**
+     * Reveals the current proverb early; only valid while a round is running.
+     */
+    public boolean reveal() {
+        synchronized (lock) {
+            touch();
+            if (phase != Phase.ROUND) {
+                return false;
+            }
+            revealAnswerEarly("Revealed");
+            return true;
+        }
+    }
+
+    /**
+     * Records the player's answer; only valid once the proverb is revealed.
+     */
+    public boolean answer(boolean correct) {
+        synchronized (lock) {
+            touch();
+            if (phase != Phase.REVEALED) {
+                return false;
+            }
+            handleAnswer(correct);
+            return true;
+        }
+    }
+
+    /**
+     * Stops any pending countdown so the session can be dropped.
+     */
+    public void close() {
+        synchronized (lock) {
+            stopGame();
+            phase = Phase.FINISHED;
+        }
+    }
+
+    private void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    /**
+     * Renders the session state as a JSON object.
+     */
+    public String toJson() {
+        synchronized (lock) {
+            touch();
+            StringBuilder json = new StringBuilder(256);
+            json.append("{\"id\":").append(GameServer.quote(id))
+                .append(",\"phase\":\"").append(phase).append('"')
+                .append(",\"difficulty\":\"").append(getSelectedDifficulty()).append('"')
+                .append(",\"score\":").append(getScore())
+                .append(",\"hearts\":").append(getHearts())
+                .append(",\"round\":").append(getCurrentIndex())
+                .append(",\"totalRounds\":").append(getTotalProverbs())
+                .append(",\"secondsRemaining\":").append(getTimeRemaining())
+                .append(",\"image\":").append(currentProverb != null ? GameServer.quote(currentProverb.getImagePath()) : "null")
+                .append(",\"text\":").append(revealedText != null ? GameServer.quote(revealedText) : "null")
+                .append(",\"lastAnswerCorrect\":").append(lastAnswerCorrect)
+                .append(",\"message\":").append(GameServer.quote(message))
+                .append('}');
+            return json.toString();
+        }
+    }
+
+    @Override
+    protected void onRoundStarted(Proverb proverb) {
+        phase = Phase.ROUND;
+        currentProverb = proverb;
+        revealedText = null;
+        lastAnswerCorrect = null;
+        message = "";
+    }
+
+    @Override
+    protected void onTimerStarted(long deadlineNanos) {
+    }
+
+    @Override
+    protected void onTimerStopped(int secondsRemaining) {
+    }
+
+    @Override
+    protected void onStatusChanged(int score, int hearts) {
+    }
+
+    @Override
+    protected void onProverbRevealed(Proverb proverb, String reason) {
+        phase = Phase.REVEALED;
+        revealedText = proverb.getText();
+        message = reason;
+    }
+
+    @Override
+    protected void onAnswerEvaluated(boolean isCorrect, int score, int hearts) {
+        phase = Phase.ANSWERED;
+        lastAnswerCorrect = isCorrect;
+    }
+
+    @Override
+    protected void onGameFinished(int score, int hearts, int completedRounds, int totalRounds) {
+        phase = Phase.FINISHED;
+        currentProverb = null;
+        message = hearts <= 0 ? "Out of hearts" : String.format("Finished! %d / %d proverbs", completedRounds, totalRounds);
+    }
+
+    @Override
+    protected void onInitializationError(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,68 @@
+package com.tibebguess;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * GameSimulator
+ *
+ * Command-line balance tool: plays many headless games per difficulty with a
+ * simple probabilistic player and prints score statistics and throughput.
+ *
+ * Usage: GameSimulator [games] [correctProbability] [seed]
+ */
+public final class GameSimulator {
+
+    private GameSimulator() {
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        double correctProbability = args.length > 1 ? Double.parseDouble(args[1]) : 0.7;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        List<Proverb> proverbs = ProverbCatalog.get().getProverbs();
+        if (proverbs.isEmpty()) {
+            proverbs = ProverbLoader.loadFromFile("/proverbs.txt");
+        }
+
+        Random random = new Random(seed);
+        HeadlessGameManager.Player player = new HeadlessGameManager.Player() {
+            @Override
+            public long revealDelayMillis(Proverb proverb, int roundTimeSeconds) {
+                // Half of the players wait for the timer, the rest reveal at a random moment
+                return random.nextBoolean() ? -1 : (long) (random.nextDouble() * roundTimeSeconds * 1000);
+            }
+
+            @Override
+            public boolean answer(Proverb proverb) {
+                return random.nextDouble() < correctProbability;
+            }
+        };
+
+        for (Proverb.Difficulty difficulty : Proverb.Difficulty.values()) {
+            HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), player);
+            manager.initializeProverbs(proverbs);
+            manager.setSeed(seed);
+            manager.setDifficulty(difficulty);
+
+            long totalScore = 0;
+            int bestScore = 0;
+            int completedAll = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < games; i++) {
+                int score = manager.play();
+                totalScore += score;
+                bestScore = Math.max(bestScore, score);
+                if (manager.getCompletedRounds() == manager.getTotalRounds()) {
+                    completedAll++;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("%-6s games=%d avgScore=%.2f best=%d finishedAllRounds=%.1f%% rounds/s=%.0f%n",
+                difficulty, games, (double) totalScore / games, bestScore,
+                100.0 * completedAll / games, manager.getRoundsPlayed() / seconds);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.tibebguess;
+
+/**
+ * GameSnapshot
+ *
+ * Immutable picture of everything the game screen shows. The game manager
+ * publishes a new snapshot each time its state changes; the controller only
+ * renders the latest one and compares it with the snapshot it rendered last,
+ * so a burst of changes costs one UI update that touches only the nodes
+ * whose values actually changed.
+ */
+public final class GameSnapshot {
+    /** State before any game has started. */
+    public static final GameSnapshot INITIAL = new GameSnapshot(0, 0, Proverb.Difficulty.MEDIUM, 0, 0,
+        0, null, false, null, null, false, 0, 0);
+
+    private final int score;
+    private final int hearts;
+    private final Proverb.Difficulty difficulty;
+    private final int secondsRemaining;
+    private final long deadlineNanos;
+    private final long round;
+    private final Proverb proverb;
+    private final boolean revealed;
+    private final String revealReason;
+    private final String feedback;
+    private final boolean finished;
+    private final int completedRounds;
+    private final int totalRounds;
+
+    private GameSnapshot(int score, int hearts, Proverb.Difficulty difficulty, int secondsRemaining, long deadlineNanos,
+                         long round, Proverb proverb, boolean revealed, String revealReason, String feedback,
+                         boolean finished, int completedRounds, int totalRounds) {
+        this.score = score;
+        this.hearts = hearts;
+        this.difficulty = difficulty;
+        this.secondsRemaining = secondsRemaining;
+        this.deadlineNanos = deadlineNanos;
+        this.round = round;
+        this.proverb = proverb;
+        this.revealed = revealed;
+        this.revealReason = revealReason;
+        this.feedback = feedback;
+        this.finished = finished;
+        this.completedRounds = completedRounds;
+        this.totalRounds = totalRounds;
+    }
+
+    /**
+     * Returns a snapshot for a new round showing {@code proverb}; the answer
+     * is hidden and any feedback or final result is cleared.
+     */
+    public GameSnapshot withRound(Proverb proverb) {
+        return new GameSnapshot(score, hearts, difficulty, secondsRemaining, deadlineNanos,
+            round + 1, proverb, false, null, null, false, 0, 0);
+    }
+
+    public GameSnapshot withStatus(int score, int hearts, Proverb.Difficulty difficulty) {
+        return new GameSnapshot(score, hearts, difficulty, secondsRemaining, deadlineNanos,
+            round, proverb, revealed, revealReason, feedback, finished, completedRounds, totalRounds);
+    }
+
+    /**
+     * Returns a snapshot whose countdown runs until {@code deadlineNanos} on
+     * the {@link System#nanoTime()} clock.
+     */
+    public GameSnapshot withCountdown(long deadlineNanos) {
+        return new GameSnapshot(score, hearts, difficulty, secondsRemaining, deadlineNanos,
+            round, proverb, revealed, revealReason, feedback, finished, completedRounds, totalRounds);
+    }
+
+    /**
+     * Returns a snapshot whose countdown is stopped at {@code secondsRemaining}.
+     */
+    public GameSnapshot withSecondsRemaining(int secondsRemaining) {
+        return new GameSnapshot(score, hearts, difficulty, secondsRemaining, 0,
+            round, proverb, revealed, revealReason, feedback, finished, completedRounds, totalRounds);
+    }
+
+    /**
+     * Returns a snapshot with the current proverb revealed; the reason is
+     * shown both as the answer subtitle and as feedback.
+     */
+    public GameSnapshot withRevealed(String reason) {
+        return new GameSnapshot(score, hearts, difficulty, secondsRemaining, deadlineNanos,
+            round, proverb, true, reason, reason, finished, completedRounds, totalRounds);
+    }
+
+    public GameSnapshot withFeedback(String feedback) {
+        return new GameSnapshot(score, hearts, difficulty, secondsRemaining, deadlineNanos,
+            round, proverb, revealed, revealReason, feedback, finished, completedRounds, totalRounds);
+    }
+
+    public GameSnapshot withFinished(int score, int hearts, int completedRounds, int totalRounds) {
+        return new GameSnapshot(score, hearts, difficulty, secondsRemaining, deadlineNanos,
+            round, proverb, revealed, revealReason, feedback, true, completedRounds, totalRounds);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getHearts() {
+        return hearts;
+    }
+
+    /**
+     * Returns the selected difficulty, or null in random mode.
+     */
+    public Proverb.Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public boolean isCountingDown() {
+        return deadlineNanos != 0;
+    }
+
+    /**
+     * Returns the whole seconds left at {@code nowNanos}, rounded up, or
+     * where the countdown stopped if it is not running.
+     */
+    public int getSecondsRemaining(long nowNanos) {
+        if (deadlineNanos == 0) {
+            return secondsRemaining;
+        }
+        long remaining = deadlineNanos - nowNanos;
+        return remaining <= 0 ? 0 : (int) ((remaining + 999_999_999L) / 1_000_000_000L);
+    }
+
+    /**
+     * Returns a counter that increases with every round started, so two
+     * rounds showing the same proverb are still told apart.
+     */
+    public long getRound() {
+        return round;
+    }
+
+    public Proverb getProverb() {
+        return proverb;
+    }
+
+    public boolean isRevealed() {
+        return revealed;
+    }
+
+    public String getRevealReason() {
+        return revealReason;
+    }
+
+    public String getFeedback() {
+        return feedback;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public int getCompletedRounds() {
+        return completedRounds;
+    }
+
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+}
@@ -0,0 +1,219 @@
+package com.tibebguess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GameState
+ *
+ * Immutable state of one game as kept by {@link AbstractGameManager}. Every
+ * transition produces a new instance, so readers on any thread always see a
+ * consistent score, hearts and round. The epoch increases whenever a round
+ * starts or the game ends; callbacks scheduled for a round remember its epoch
+ * and are ignored once the game has moved on.
+ */
+public final class GameState {
+
+    /** Where the game is in the round cycle. */
+    public enum Phase {
+        /** No game running yet, or the game was stopped. */
+        IDLE,
+        /** A round is counting down. */
+        PLAYING,
+        /** The proverb is revealed and waits for an answer. */
+        REVEALED,
+        /** The answer is in; the next round starts shortly. */
+        ANSWERED,
+        FINISHED
+    }
+
+    /**
+     * The outcomes of one game so far: a prefix of a buffer shared by the
+     * snapshots of that game. Appending claims the next slot in place, so a
+     * game of n answers costs O(n) in total; a snapshot whose slot is taken
+     * already, or whose buffer is full, appends to a copy instead.
+     */
+    private static final class Outcomes {
+        static final Outcomes NONE = new Outcomes(new byte[0], new AtomicInteger(), 0);
+
+        private final byte[] buffer;
+        private final AtomicInteger claimed;
+        private final int count;
+
+        private Outcomes(byte[] buffer, AtomicInteger claimed, int count) {
+            this.buffer = buffer;
+            this.claimed = claimed;
+            this.count = count;
+        }
+
+        static Outcomes of(byte[] outcomes) {
+            return new Outcomes(outcomes.clone(), new AtomicInteger(outcomes.length), outcomes.length);
+        }
+
+        Outcomes append(byte outcome) {
+            if (count < buffer.length && claimed.compareAndSet(count, count + 1)) {
+                buffer[count] = outcome;
+                return new Outcomes(buffer, claimed, count + 1);
+            }
+            byte[] grown = Arrays.copyOf(buffer, Math.max(16, count * 2));
+            grown[count] = outcome;
+            return new Outcomes(grown, new AtomicInteger(count + 1), count + 1);
+        }
+
+        byte[] toArray() {
+            return Arrays.copyOf(buffer, count);
+        }
+    }
+
+    private final Phase phase;
+    private final long epoch;
+    private final int score;
+    private final int hearts;
+    private final int currentIndex;
+    private final List<Proverb> proverbs;
+    // Proverb chosen for the current round by a mode, instead of proverbs[currentIndex]
+    private final Proverb picked;
+    private final long deadlineNanos;
+    private final int roundSeconds;
+    private final int secondsRemaining;
+    private final Outcomes outcomes;
+
+    private GameState(Phase phase, long epoch, int score, int hearts, int currentIndex,
+                      List<Proverb> proverbs, Proverb picked, long deadlineNanos, int roundSeconds,
+                      int secondsRemaining, Outcomes outcomes) {
+        this.phase = phase;
+        this.epoch = epoch;
+        this.score = score;
+        this.hearts = hearts;
+        this.currentIndex = currentIndex;
+        this.proverbs = proverbs;
+        this.picked = picked;
+        this.deadlineNanos = deadlineNanos;
+        this.roundSeconds = roundSeconds;
+        this.secondsRemaining = secondsRemaining;
+        this.outcomes = outcomes;
+    }
+
+    static GameState initial(int hearts, int roundSeconds) {
+        return new GameState(Phase.IDLE, 0, 0, hearts, 0, Collections.emptyList(), null, 0, roundSeconds, roundSeconds, Outcomes.NONE);
+    }
+
+    /**
+     * A fresh game over {@code proverbs}, not yet in a round.
+     */
+    GameState newGame(List<Proverb> proverbs, int hearts, int roundSeconds) {
+        return new GameState(Phase.IDLE, epoch + 1, 0, hearts, 0, proverbs, null, 0, roundSeconds, roundSeconds, Outcomes.NONE);
+    }
+
+    /**
+     * The same game continued at round {@code currentIndex} with the score,
+     * hearts and outcomes of a saved game.
+     */
+    GameState resumed(int score, int hearts, int currentIndex, byte[] outcomes) {
+        return new GameState(phase, epoch, score, hearts, currentIndex, proverbs, picked, 0, roundSeconds, secondsRemaining, Outcomes.of(outcomes));
+    }
+
+    GameState withProverbs(List<Proverb> proverbs) {
+        return new GameState(phase, epoch, score, hearts, currentIndex, proverbs, picked, deadlineNanos, roundSeconds, secondsRemaining, outcomes);
+    }
+
+    /**
+     * The same state with {@code proverb} played in the current round in
+     * place of the one at the current index, which stays in the list.
+     */
+    GameState withCurrentProverb(Proverb proverb) {
+        return new GameState(phase, epoch, score, hearts, currentIndex, proverbs, proverb, deadlineNanos, roundSeconds, secondsRemaining, outcomes);
+    }
+
+    GameState roundStarted(long deadlineNanos, int roundSeconds) {
+        return new GameState(Phase.PLAYING, epoch + 1, score, hearts, currentIndex, proverbs, picked, deadlineNanos, roundSeconds, roundSeconds, outcomes);
+    }
+
+    GameState revealed(int secondsRemaining) {
+        return new GameState(Phase.REVEALED, epoch, score, hearts, currentIndex, proverbs, picked, 0, roundSeconds, secondsRemaining, outcomes);
+    }
+
+    GameState answered(int score, int hearts, int secondsRemaining, byte outcome) {
+        return new GameState(Phase.ANSWERED, epoch, score, hearts, currentIndex, proverbs, picked, 0, roundSeconds, secondsRemaining,
+            outcomes.append(outcome));
+    }
+
+    GameState advanced() {
+        return new GameState(phase, epoch, score, hearts, currentIndex + 1, proverbs, null, deadlineNanos, roundSeconds, secondsRemaining, outcomes);
+    }
+
+    GameState ended(Phase phase, int secondsRemaining) {
+        return new GameState(phase, epoch + 1, score, hearts, currentIndex, proverbs, picked, 0, roundSeconds, secondsRemaining, outcomes);
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getHearts() {
+        return hearts;
+    }
+
+    public int getCurrentIndex() {
+        return currentIndex;
+    }
+
+    /**
+     * Returns the proverbs of this game in play order; rounds picked by a
+     * mode play {@link #getCurrentProverb()} instead of their entry.
+     */
+    public List<Proverb> getProverbs() {
+        return proverbs;
+    }
+
+    public Proverb getCurrentProverb() {
+        if (picked != null) {
+            return picked;
+        }
+        return currentIndex < proverbs.size() ? proverbs.get(currentIndex) : null;
+    }
+
+    /**
+     * Returns the {@link GameResult} outcome flags of the rounds answered so far.
+     */
+    public byte[] getOutcomes() {
+        return outcomes.toArray();
+    }
+
+    /**
+     * Returns the length of the current or last round in seconds.
+     */
+    public int getRoundSeconds() {
+        return roundSeconds;
+    }
+
+    /**
+     * Returns the deadline of the running countdown on the scheduler clock,
+     * or 0 when no countdown is running.
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * Returns the whole seconds left at {@code nowNanos}, rounded up, or
+     * where the countdown stopped if it is not running.
+     */
+    public int getSecondsRemaining(long nowNanos) {
+        if (deadlineNanos == 0) {
+            return secondsRemaining;
+        }
+        long remaining = deadlineNanos - nowNanos;
+        return remaining <= 0 ? 0 : (int) ((remaining + 999_999_999L) / 1_000_000_000L);
+    }
+}
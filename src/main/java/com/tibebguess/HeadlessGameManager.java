@@ -0,0 +1,134 @@
+package com.tibebguess;
+
+/**
+ * HeadlessGameManager
+ *
+ * Runs the standard game rules without JavaFX against a
+ * {@link VirtualGameScheduler}, so a whole game completes as fast as the CPU
+ * allows. A {@link Player} strategy decides when to reveal each proverb and
+ * whether the answer was right; used for balance tuning, scoring regression
+ * checks and simulations.
+ */
+public class HeadlessGameManager extends AbstractGameManager {
+
+    /**
+     * Simulated player behaviour.
+     */
+    public interface Player {
+        /**
+         * Milliseconds after the round starts at which the player asks for the
+         * answer, or a negative value to wait for the timer.
+         */
+        long revealDelayMillis(Proverb proverb, int roundTimeSeconds);
+
+        /**
+         * Whether the player guessed the revealed proverb correctly.
+         */
+        boolean answer(Proverb proverb);
+    }
+
+    private final VirtualGameScheduler clock;
+    private final Player player;
+    private GameScheduler.Task revealTask;
+
+    private boolean finished;
+    private int completedRounds;
+    private int totalRounds;
+    private long roundsPlayed;
+
+    public HeadlessGameManager(GameRules rules, VirtualGameScheduler clock, Player player) {
+        super(rules, clock);
+        this.clock = clock;
+        this.player = player;
+    }
+
+    /**
+     * Plays one full game on the virtual clock and returns the final score.
+     */
+    public int play() {
+        finished = false;
+        startGame();
+        clock.runUntilIdle();
+        return getScore();
+    }
+
+    /**
+     * Plays the game shuffled from {@code seed} on the virtual clock and
+     * returns the final score.
+     */
+    public int play(long seed) {
+        finished = false;
+        startGame(seed);
+        clock.runUntilIdle();
+        return getScore();
+    }
+
+    @Override
+    protected void onRoundStarted(Proverb proverb) {
+        roundsPlayed++;
+        int roundTime = getState().getRoundSeconds();
+        long delay = player.revealDelayMillis(proverb, roundTime);
+        if (delay >= 0 && delay < roundTime * 1000L) {
+            revealTask = clock.schedule(() -> {
+                revealTask = null;
+                revealAnswerEarly("");
+            }, delay);
+        }
+    }
+
+    @Override
+    protected void onTimerStarted(long deadlineNanos) {
+    }
+
+    @Override
+    protected void onTimerStopped(int secondsRemaining) {
+    }
+
+    @Override
+    protected void onStatusChanged(int score, int hearts) {
+    }
+
+    @Override
+    protected void onProverbRevealed(Proverb proverb, String reason) {
+        if (revealTask != null) {
+            revealTask.cancel();
+            revealTask = null;
+        }
+        handleAnswer(player.answer(proverb));
+    }
+
+    @Override
+    protected void onAnswerEvaluated(boolean isCorrect, int score, int hearts) {
+    }
+
+    @Override
+    protected void onGameFinished(int score, int hearts, int completedRounds, int totalRounds) {
+        this.finished = true;
+        this.completedRounds = completedRounds;
+        this.totalRounds = totalRounds;
+    }
+
+    @Override
+    protected void onInitializationError(String message) {
+        System.err.println(message);
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public int getCompletedRounds() {
+        return completedRounds;
+    }
+
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+
+    /**
+     * Total rounds started by this manager across every game it played.
+     */
+    public long getRoundsPlayed() {
+        return roundsPlayed;
+    }
+}
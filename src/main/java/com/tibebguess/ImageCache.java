@@ -0,0 +1,179 @@
+package com.tibebguess;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.scene.image.Image;
+
+/**
+ * ImageCache
+ *
+ * Least-recently-used cache of decoded proverb images. Entries are keyed by
+ * image path and requested size, and the cache is bounded by the number of
+ * decoded pixel bytes it holds rather than by entry count, so long-running
+ * kiosk sessions keep hot images resident without growing the heap forever.
+ */
+public class ImageCache {
+    /** System property overriding the decoded-byte budget. */
+    public static final String MAX_BYTES_PROPERTY = "tibeb.imageCache.maxBytes";
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    /**
+     * Cache key: image resource path plus the requested decode size
+     * (0 x 0 means full source resolution).
+     */
+    public static final class Key {
+        private final String path;
+        private final int width;
+        private final int height;
+
+        public Key(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return width == other.width && height == other.height && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, width, height);
+        }
+
+        @Override
+        public String toString() {
+            return path + "@" + width + "x" + height;
+        }
+    }
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Image> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ImageCache() {
+        this(Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES));
+    }
+
+    public ImageCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached image for the key, or null on a miss.
+     */
+    public synchronized Image get(Key key) {
+        Image image = entries.get(key);
+        if (image != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return image;
+    }
+
+    /**
+     * Adds a decoded image, evicting least recently used entries until the
+     * cache fits its byte budget again. Images larger than the whole budget
+     * are not cached.
+     */
+    public synchronized void put(Key key, Image image) {
+        long size = sizeOf(image);
+        if (size > maxBytes) {
+            return;
+        }
+        Image previous = entries.put(key, image);
+        if (previous != null) {
+            currentBytes -= sizeOf(previous);
+        }
+        currentBytes += size;
+
+        Iterator<Map.Entry<Key, Image>> eldest = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Key, Image> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            currentBytes -= sizeOf(entry.getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Drops every size variant cached for the given image path.
+     */
+    public synchronized void invalidate(String path) {
+        Iterator<Map.Entry<Key, Image>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Image> entry = it.next();
+            if (entry.getKey().getPath().equals(path)) {
+                currentBytes -= sizeOf(entry.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    private static long sizeOf(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    // Counters for sizing the budget
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("ImageCache[%d entries, %d/%d bytes, hits=%d, misses=%d, evictions=%d]",
+            entries.size(), currentBytes, maxBytes, hits, misses, evictions);
+    }
+}
@@ -0,0 +1,201 @@
+package com.tibebguess;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProverbCatalog
+ *
+ * Read-only index of every proverb and image shipped with the game. The index
+ * is generated at build time by {@link CatalogGenerator} and read once from
+ * the classpath, so no directory listing happens at runtime and lookups work
+ * the same from a packaged jar as from an exploded build. Catalogs are
+ * immutable; hot reload publishes a modified copy through {@link #replace}.
+ *
+ * Index format (UTF-8, tab separated, one record per line):
+ * <pre>
+ * I  difficulty  imagePath  bytes  width  height
+ * P  difficulty  imagePath  text
+ * </pre>
+ */
+public final class ProverbCatalog {
+    public static final String RESOURCE_PATH = "/catalog.idx";
+
+    /**
+     * Metadata recorded for one image at build time.
+     */
+    public static final class ImageInfo {
+        private final String path;
+        private final Proverb.Difficulty difficulty;
+        private final long bytes;
+        private final int width;
+        private final int height;
+
+        public ImageInfo(String path, Proverb.Difficulty difficulty, long bytes, int width, int height) {
+            this.path = path;
+            this.difficulty = difficulty;
+            this.bytes = bytes;
+            this.width = width;
+            this.height = height;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public Proverb.Difficulty getDifficulty() {
+            return difficulty;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+    }
+
+    private static volatile ProverbCatalog current;
+
+    private final List<Proverb> proverbs;
+    private final List<String> allImages;
+    private final Map<Proverb.Difficulty, List<String>> imagesByDifficulty;
+    private final Map<String, ImageInfo> imageInfo;
+
+    private ProverbCatalog(List<Proverb> proverbs, List<ImageInfo> images) {
+        this.proverbs = Collections.unmodifiableList(proverbs);
+        Map<Proverb.Difficulty, List<String>> byDifficulty = new EnumMap<>(Proverb.Difficulty.class);
+        for (Proverb.Difficulty difficulty : Proverb.Difficulty.values()) {
+            byDifficulty.put(difficulty, new ArrayList<>());
+        }
+        List<String> all = new ArrayList<>(images.size());
+        Map<String, ImageInfo> info = new HashMap<>();
+        for (ImageInfo image : images) {
+            byDifficulty.get(image.getDifficulty()).add(image.getPath());
+            all.add(image.getPath());
+            info.put(image.getPath(), image);
+        }
+        byDifficulty.replaceAll((difficulty, paths) -> Collections.unmodifiableList(paths));
+        this.imagesByDifficulty = byDifficulty;
+        this.allImages = Collections.unmodifiableList(all);
+        this.imageInfo = info;
+    }
+
+    /**
+     * Returns the current catalog: the one bundled with the application,
+     * or the latest replacement published by {@link #replace}.
+     */
+    public static ProverbCatalog get() {
+        ProverbCatalog catalog = current;
+        if (catalog == null) {
+            synchronized (ProverbCatalog.class) {
+                if (current == null) {
+                    current = loadFromClasspath();
+                }
+                catalog = current;
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Atomically publishes a new catalog; readers see either the old or the
+     * new one, never a mix.
+     */
+    public static void replace(ProverbCatalog catalog) {
+        current = catalog;
+    }
+
+    /**
+     * Returns a copy of this catalog with {@code proverbs} as its proverb list.
+     */
+    public ProverbCatalog withProverbs(List<Proverb> proverbs) {
+        List<ImageInfo> images = new ArrayList<>(allImages.size());
+        for (String path : allImages) {
+            images.add(imageInfo.get(path));
+        }
+        return new ProverbCatalog(new ArrayList<>(proverbs), images);
+    }
+
+    /**
+     * Returns a copy of this catalog with the image added or replaced, or
+     * removed when {@code image} is null.
+     */
+    public ProverbCatalog withImage(String path, ImageInfo image) {
+        List<ImageInfo> images = new ArrayList<>(imageInfo.size() + 1);
+        for (String existing : allImages) {
+            if (!existing.equals(path)) {
+                images.add(imageInfo.get(existing));
+            }
+        }
+        if (image != null) {
+            images.add(image);
+        }
+        return new ProverbCatalog(new ArrayList<>(proverbs), images);
+    }
+
+    private static ProverbCatalog loadFromClasspath() {
+        try (InputStream stream = ProverbCatalog.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (stream == null) {
+                System.err.println("Catalog index not found: " + RESOURCE_PATH + " (run the Maven build to generate it)");
+                return new ProverbCatalog(new ArrayList<>(), new ArrayList<>());
+            }
+            return read(new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8)));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error reading catalog index: " + e.getMessage());
+            return new ProverbCatalog(new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    static ProverbCatalog read(BufferedReader reader) throws IOException {
+        List<Proverb> proverbs = new ArrayList<>();
+        List<ImageInfo> images = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t", -1);
+            if (fields[0].equals("I") && fields.length >= 6) {
+                images.add(new ImageInfo(fields[2], Proverb.Difficulty.valueOf(fields[1]),
+                    Long.parseLong(fields[3]), Integer.parseInt(fields[4]), Integer.parseInt(fields[5])));
+            } else if (fields[0].equals("P") && fields.length >= 4) {
+                proverbs.add(new Proverb(fields[3], fields[2], Proverb.Difficulty.valueOf(fields[1])));
+            }
+        }
+        return new ProverbCatalog(proverbs, images);
+    }
+
+    public List<Proverb> getProverbs() {
+        return proverbs;
+    }
+
+    public List<String> getAllImages() {
+        return allImages;
+    }
+
+    public List<String> getImages(Proverb.Difficulty difficulty) {
+        return imagesByDifficulty.get(difficulty);
+    }
+
+    /**
+     * Returns the build-time metadata for an image, or null if it is unknown.
+     */
+    public ImageInfo getImageInfo(String path) {
+        return imageInfo.get(path);
+    }
+}
@@ -0,0 +1,138 @@
+package com.tibebguess;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.scene.image.Image;
+
+/**
+ * ProverbImageLoader
+ *
+ * Decodes proverb images on a background thread so the JavaFX application
+ * thread never stalls on JPEG decoding. The image for the current round is
+ * requested first and the next few proverbs are prefetched while the round
+ * runs, so swapping images at round start is usually just an assignment.
+ * Decoded images are kept in a shared {@link ImageCache} so replaying a
+ * difficulty does not decode the same pictures again. Images are decoded at
+ * the size they are displayed at rather than at full source resolution.
+ *
+ * Invalidating a path bumps its generation: a decode that started before
+ * still completes its callers' future, but its image is not cached, so an
+ * image replaced on disk mid-decode never comes back from the cache.
+ */
+public class ProverbImageLoader {
+
+    private final ExecutorService decoder;
+    private final ImageCache cache;
+    private final Map<ImageCache.Key, CompletableFuture<Image>> inFlight = new ConcurrentHashMap<>();
+    // Bumped by invalidate; only paths that were ever invalidated have an entry
+    private final Map<String, Integer> generations = new ConcurrentHashMap<>();
+
+    public ProverbImageLoader() {
+        this(new ImageCache());
+    }
+
+    public ProverbImageLoader(ImageCache cache) {
+        this.cache = cache;
+        this.decoder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "proverb-image-decoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the image for the given resource path decoded to fit within
+     * {@code width} x {@code height} (0 keeps the source size), decoding it
+     * in the background if it is neither cached nor already in flight.
+     */
+    public CompletableFuture<Image> load(String path, int width, int height) {
+        ImageCache.Key key = new ImageCache.Key(path, width, height);
+        Image cached = cache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<Image> future = new CompletableFuture<>();
+        CompletableFuture<Image> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        int generation = generations.getOrDefault(path, 0);
+        decoder.execute(() -> {
+            try {
+                Image image = decode(path, width, height);
+                synchronized (cache) {
+                    if (generations.getOrDefault(path, 0) == generation) {
+                        cache.put(key, image);
+                    }
+                }
+                future.complete(image);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Drops every cached size of the image at {@code path}, e.g. after it
+     * changed on disk. Decodes already running are not cached, and the next
+     * load decodes the file again.
+     */
+    public void invalidate(String path) {
+        synchronized (cache) {
+            generations.merge(path, 1, Integer::sum);
+            cache.invalidate(path);
+        }
+        inFlight.keySet().removeIf(key -> key.getPath().equals(path));
+    }
+
+    /**
+     * Starts decoding the images of the upcoming proverbs.
+     */
+    public void prefetch(List<Proverb> upcoming, int width, int height) {
+        for (Proverb proverb : upcoming) {
+            String path = proverb.getImagePath();
+            if (path != null && !path.isBlank()) {
+                load(path, width, height);
+            }
+        }
+    }
+
+    public ImageCache getCache() {
+        return cache;
+    }
+
+    private Image decode(String path, int width, int height) {
+        long start = GameMetrics.start();
+        try (InputStream stream = AssetBundle.openAsset(path)) {
+            if (stream == null) throw new IllegalArgumentException("Image not found: " + path);
+            // Requested-size decoding keeps only display-sized pixels on the heap
+            Image image = new Image(stream, width, height, true, true);
+            if (image.isError()) {
+                throw new IllegalArgumentException("Could not decode image: " + path);
+            }
+            GameMetrics.stop(GameMetrics.Metric.IMAGE_LOAD, start);
+            return image;
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Error reading image " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stops the background decoder thread.
+     */
+    public void shutdown() {
+        decoder.shutdownNow();
+        inFlight.clear();
+    }
+}
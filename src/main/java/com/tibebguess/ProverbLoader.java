@@ -4,58 +4,23 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.net.URL;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 public class ProverbLoader {
     
-
-    private static List<String> getImagesForDifficulty(Proverb.Difficulty difficulty) {
-        List<String> images = new ArrayList<>();
-        String dirPath = "/images/" + difficulty.name().toLowerCase() + "/";
-        
-        try {
-            Enumeration<URL> resources = ProverbLoader.class.getClassLoader().getResources("images/" + difficulty.name().toLowerCase());
-            while (resources.hasMoreElements()) {
-                URL resource = resources.nextElement();
-                
-                if (resource.getProtocol().equals("file")) {
-                    java.io.File dir = new java.io.File(resource.getFile());
-                    if (dir.exists() && dir.isDirectory()) {
-                        java.io.File[] files = dir.listFiles((file, name) -> 
-                            name.toLowerCase().endsWith(".jpg") || 
-                            name.toLowerCase().endsWith(".png") || 
-                            name.toLowerCase().endsWith(".jpeg"));
-                        if (files != null) {
-                            for (java.io.File file : files) {
-                                images.add(dirPath + file.getName());
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error scanning images for " + difficulty + ": " + e.getMessage());
-        }
-        
-        return images;
-    }
-    
-    private static List<String> getAllImages() {
-        List<String> allImages = new ArrayList<>();
-        for (Proverb.Difficulty diff : Proverb.Difficulty.values()) {
-            allImages.addAll(getImagesForDifficulty(diff));
-        }
-        return allImages;
-    }
-   
-    
     public static List<Proverb> loadFromFile(String resourcePath) {
-        List<Proverb> proverbs = new ArrayList<>();
+        List<Proverb> proverbs;
         
         try {
             InputStream inputStream = ProverbLoader.class.getResourceAsStream(resourcePath);
@@ -64,42 +29,11 @@ public class ProverbLoader {
                 return getDefaultProverbs();
             }
             
-            BufferedReader reader = new BufferedReader(
-                new InputStreamReader(inputStream, StandardCharsets.UTF_8)
-            );
-            
-            String line;
-            int lineNumber = 1;
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty() || line.startsWith("#")) {
-                    continue; // Skip empty lines and comments
-                }
-                
-                String[] parts = line.split("\\|");
-                if (parts.length >= 2) {
-                    String text = parts[0].trim();
-                    String imagePath = parts[1].trim();
-                    
-                    // Determine difficulty from image path
-                    Proverb.Difficulty difficulty = Proverb.Difficulty.EASY; // default
-                    if (imagePath.contains("/easy/")) {
-                        difficulty = Proverb.Difficulty.EASY;
-                    } else if (imagePath.contains("/medium/")) {
-                        difficulty = Proverb.Difficulty.MEDIUM;
-                    } else if (imagePath.contains("/hard/")) {
-                        difficulty = Proverb.Difficulty.HARD;
-                    }
-                    
-                    proverbs.add(new Proverb(text, imagePath, difficulty));
-                } else {
-                    System.err.println("Invalid format at line " + lineNumber + ": " + line);
-                }
-                lineNumber++;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+                proverbs = parse(reader);
             }
             
-            reader.close();
-            
             if (proverbs.isEmpty()) {
                 System.err.println("No proverbs loaded from file. Using defaults.");
                 return getDefaultProverbs();
@@ -113,6 +47,69 @@ public class ProverbLoader {
         return proverbs;
     }
     
+    /**
+     * Opens a binary proverb pack; proverbs are decoded lazily on access.
+     * Falls back to the default proverbs if the pack cannot be read.
+     */
+    public static List<Proverb> loadFromPack(Path packFile) {
+        try {
+            ProverbPack pack = ProverbPack.open(packFile);
+            if (pack.isEmpty()) {
+                System.err.println("Proverb pack is empty: " + packFile + ". Using defaults.");
+                return getDefaultProverbs();
+            }
+            return pack;
+        } catch (IOException e) {
+            System.err.println("Error loading proverb pack " + packFile + ": " + e.getMessage());
+            return getDefaultProverbs();
+        }
+    }
+    
+    /**
+     * Parses proverbs in the {@code text|imagePath[|difficulty]} format,
+     * skipping empty lines and comments and logging malformed lines.
+     */
+    public static List<Proverb> parse(BufferedReader reader) throws IOException {
+        List<Proverb> proverbs = new ArrayList<>();
+        try (ProverbParser parser = new ProverbParser(reader)) {
+            parser.forEachRemaining(proverbs::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return proverbs;
+    }
+    
+    /**
+     * Lazily parses proverbs as the stream is consumed. Malformed lines go to
+     * {@code errorHandler}; closing the stream closes the reader.
+     */
+    public static Stream<Proverb> stream(Reader reader, Consumer<ProverbParser.ParseError> errorHandler) {
+        ProverbParser parser = new ProverbParser(reader, errorHandler);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(parser, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                try {
+                    parser.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+    
+    /**
+     * Determines difficulty from the image folder, defaulting to EASY.
+     */
+    static Proverb.Difficulty difficultyFromPath(String imagePath) {
+        if (imagePath.contains("/easy/")) {
+            return Proverb.Difficulty.EASY;
+        } else if (imagePath.contains("/medium/")) {
+            return Proverb.Difficulty.MEDIUM;
+        } else if (imagePath.contains("/hard/")) {
+            return Proverb.Difficulty.HARD;
+        }
+        return Proverb.Difficulty.EASY;
+    }
+    
     /**
      * Returns default hardcoded proverbs
      * This is used as fallback if file loading fails
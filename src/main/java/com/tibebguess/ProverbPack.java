@@ -0,0 +1,176 @@
+package com.tibebguess;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+
+/**
+ * ProverbPack
+ *
+ * Read-only view of a binary proverb pack, memory-mapped with
+ * {@link FileChannel#map}. Opening a pack only validates the header, so
+ * startup cost does not depend on corpus size; {@link Proverb} objects are
+ * decoded from the mapping when an entry is accessed.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * header   magic "TBPK", u16 version, u16 flags, i32 count, i32 reserved, i64 tableOffset,
+ *          3 x i32 entries per difficulty (EASY, MEDIUM, HARD)
+ * records  u16 textLength, text (UTF-8), u16 pathLength, imagePath (UTF-8)
+ * table    count x i64 record offset, grouped by difficulty in the header's order
+ * </pre>
+ * Entry {@code i} is the one the table's {@code i}th offset points at, so the
+ * entries of one difficulty are a contiguous index range and a game can
+ * select them without looking at the others. Packs are written by
+ * {@link ProverbPackWriter}.
+ */
+public final class ProverbPack extends AbstractList<Proverb> implements ProverbSource, RandomAccess {
+    static final int MAGIC = 0x5442504B; // "TBPK"
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 36;
+    static final int DIFFICULTY_COUNTS_OFFSET = 24;
+
+    private final ByteBuffer data;
+    private final int count;
+    private final int tableOffset;
+    // First entry index of each difficulty, plus count at the end
+    private final int[] starts = new int[Proverb.Difficulty.values().length + 1];
+
+    private ProverbPack(ByteBuffer data) throws IOException {
+        this.data = data;
+        if (data.limit() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a proverb pack");
+        }
+        if (data.getShort(4) != VERSION) {
+            throw new IOException("Unsupported proverb pack version " + data.getShort(4));
+        }
+        this.count = data.getInt(8);
+        long table = data.getLong(16);
+        if (count < 0 || table < HEADER_SIZE || table + (long) count * Long.BYTES > data.limit()) {
+            throw new IOException("Corrupt proverb pack offset table");
+        }
+        this.tableOffset = (int) table;
+        for (int level = 0; level < starts.length - 1; level++) {
+            int entries = data.getInt(DIFFICULTY_COUNTS_OFFSET + level * Integer.BYTES);
+            if (entries < 0 || entries > count - starts[level]) {
+                throw new IOException("Corrupt proverb pack difficulty counts");
+            }
+            starts[level + 1] = starts[level] + entries;
+        }
+        if (starts[starts.length - 1] != count) {
+            throw new IOException("Corrupt proverb pack difficulty counts");
+        }
+    }
+
+    /**
+     * Maps the pack file read-only. The channel is closed right away; the
+     * mapping stays valid until the pack is garbage collected.
+     */
+    public static ProverbPack open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Proverb pack larger than 2 GB: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ProverbPack(mapped);
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Decodes the proverb at {@code index} from the mapping.
+     */
+    @Override
+    public Proverb get(int index) {
+        int record = recordOffset(index);
+        int textLength = data.getShort(record) & 0xFFFF;
+        int pathStart = record + 2 + textLength;
+        int pathLength = data.getShort(pathStart) & 0xFFFF;
+        String text = decode(record + 2, textLength);
+        String imagePath = decode(pathStart + 2, pathLength);
+        return new Proverb(text, imagePath, difficultyAt(index));
+    }
+
+    /**
+     * Returns the difficulty of an entry from the header's ranges, without
+     * touching its record.
+     */
+    public Proverb.Difficulty difficultyAt(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of pack of " + count);
+        }
+        int level = 0;
+        while (index >= starts[level + 1]) {
+            level++;
+        }
+        return Proverb.Difficulty.values()[level];
+    }
+
+    /**
+     * Returns the entries of one difficulty in random order as a lazy view
+     * over their index range; proverbs are decoded on access.
+     */
+    @Override
+    public List<Proverb> shuffled(Proverb.Difficulty difficulty, Random random) {
+        int first = starts[difficulty.ordinal()];
+        int[] order = new int[starts[difficulty.ordinal() + 1] - first];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = first + i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return new Selection(order);
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of pack of " + count);
+        }
+        return (int) data.getLong(tableOffset + index * Long.BYTES);
+    }
+
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = data.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lazy list over selected pack entries.
+     */
+    private final class Selection extends AbstractList<Proverb> implements RandomAccess {
+        private final int[] order;
+
+        Selection(int[] order) {
+            this.order = order;
+        }
+
+        @Override
+        public Proverb get(int index) {
+            return ProverbPack.this.get(order[index]);
+        }
+
+        @Override
+        public int size() {
+            return order.length;
+        }
+    }
+}
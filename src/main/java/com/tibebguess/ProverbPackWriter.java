@@ -0,0 +1,118 @@
+package com.tibebguess;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * ProverbPackWriter
+ *
+ * Writes the binary {@link ProverbPack} format in a single streaming pass:
+ * records first in input order, then the offset table grouped by difficulty
+ * (input order within each), then the header is patched with the entry
+ * count, table position and difficulty counts. Also usable as a command-line converter
+ * from the {@code text|imagePath[|difficulty]} text format.
+ *
+ * Usage: ProverbPackWriter &lt;proverbs.txt&gt; &lt;proverbs.pack&gt;
+ */
+public final class ProverbPackWriter {
+
+    private ProverbPackWriter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ProverbPackWriter <proverbs.txt> <proverbs.pack>");
+            System.exit(1);
+        }
+        Path output = Paths.get(args[1]);
+        int written = convert(Paths.get(args[0]), output);
+        System.out.println("Wrote " + written + " proverbs to " + output);
+    }
+
+    /**
+     * Converts a text proverb file into a pack, streaming line by line.
+     */
+    public static int convert(Path textFile, Path packFile) throws IOException {
+        try (Reader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8);
+             Stream<Proverb> proverbs = ProverbLoader.stream(reader, ProverbParser.LOG_ERRORS)) {
+            return write(proverbs.iterator(), packFile);
+        }
+    }
+
+    /**
+     * Writes the proverbs to {@code packFile}, replacing it atomically. In
+     * the pack, EASY entries come first, then MEDIUM, then HARD.
+     */
+    public static int write(Iterator<Proverb> proverbs, Path packFile) throws IOException {
+        Path absolute = packFile.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        int levels = Proverb.Difficulty.values().length;
+        long[][] offsets = new long[levels][64];
+        int[] counts = new int[levels];
+        int count = 0;
+        long position = ProverbPack.HEADER_SIZE;
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.write(new byte[ProverbPack.HEADER_SIZE]);
+                while (proverbs.hasNext()) {
+                    Proverb proverb = proverbs.next();
+                    byte[] text = utf8(proverb.getText(), "text");
+                    byte[] path = utf8(proverb.getImagePath(), "image path");
+                    int level = proverb.getDifficulty().ordinal();
+                    if (counts[level] == offsets[level].length) {
+                        offsets[level] = Arrays.copyOf(offsets[level], counts[level] * 2);
+                    }
+                    offsets[level][counts[level]++] = position;
+                    count++;
+
+                    out.writeShort(text.length);
+                    out.write(text);
+                    out.writeShort(path.length);
+                    out.write(path);
+                    position += 2 + text.length + 2 + path.length;
+                }
+                for (int level = 0; level < levels; level++) {
+                    for (int i = 0; i < counts[level]; i++) {
+                        out.writeLong(offsets[level][i]);
+                    }
+                }
+            }
+
+            try (RandomAccessFile file = new RandomAccessFile(temp.toFile(), "rw")) {
+                file.writeInt(ProverbPack.MAGIC);
+                file.writeShort(ProverbPack.VERSION);
+                file.writeShort(0);
+                file.writeInt(count);
+                file.writeInt(0);
+                file.writeLong(position);
+                for (int level = 0; level < levels; level++) {
+                    file.writeInt(counts[level]);
+                }
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return count;
+    }
+
+    private static byte[] utf8(String value, String field) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("Proverb " + field + " longer than 65535 bytes");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,230 @@
+package com.tibebguess;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * ProverbParser
+ *
+ * Single-pass, regex-free parser for the proverb file format:
+ * <pre>
+ * proverb_text|image_path[|difficulty]
+ * </pre>
+ * Lines are parsed one at a time as the iterator is advanced, so very large
+ * corpora never need to be held in memory. When the difficulty column is
+ * absent it is inferred from the image folder. Malformed lines are reported
+ * to an error handler with their line and column and then skipped.
+ *
+ * A catalog has far fewer images than proverbs, so image paths are looked
+ * up in a small table straight from the line and shared between proverbs;
+ * a materialised list of a large corpus then holds one copy of each path
+ * instead of one per line.
+ */
+public class ProverbParser implements Iterator<Proverb>, Closeable {
+
+    /**
+     * A malformed line, reported without aborting the parse.
+     */
+    public static final class ParseError {
+        private final int line;
+        private final int column;
+        private final String message;
+
+        public ParseError(int line, int column, String message) {
+            this.line = line;
+            this.column = column;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public int getColumn() {
+            return column;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "line " + line + ", column " + column + ": " + message;
+        }
+    }
+
+    /** Default handler: log the error and keep going. */
+    public static final Consumer<ParseError> LOG_ERRORS =
+        error -> System.err.println("Invalid proverb at " + error);
+
+    private static final int PATH_TABLE_SIZE = 256;
+
+    private final BufferedReader reader;
+    private final Consumer<ParseError> errorHandler;
+    private int lineNumber;
+    private Proverb next;
+    private boolean finished;
+    // Recently seen image paths by hash; a miss simply replaces the slot
+    private final String[] paths = new String[PATH_TABLE_SIZE];
+
+    public ProverbParser(Reader reader) {
+        this(reader, LOG_ERRORS);
+    }
+
+    public ProverbParser(Reader reader, Consumer<ParseError> errorHandler) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader, 1 << 16);
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public Proverb next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Proverb proverb = next;
+        next = null;
+        return proverb;
+    }
+
+    /**
+     * Number of physical lines consumed so far.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        reader.close();
+    }
+
+    private Proverb readNext() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                Proverb proverb = parseLine(line, lineNumber);
+                if (proverb != null) {
+                    return proverb;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading proverbs at line " + (lineNumber + 1), e);
+        }
+    }
+
+    /**
+     * Parses one line; returns null for blank lines, comments and errors.
+     */
+    Proverb parseLine(String line, int lineNo) {
+        int end = line.length();
+        int start = skipWhitespace(line, 0, end);
+        if (start == end || line.charAt(start) == '#') {
+            return null; // Skip empty lines and comments
+        }
+
+        int firstBar = line.indexOf('|', start);
+        if (firstBar < 0) {
+            errorHandler.accept(new ParseError(lineNo, end + 1, "expected '|' between proverb text and image path"));
+            return null;
+        }
+        int secondBar = line.indexOf('|', firstBar + 1);
+
+        String text = trimmed(line, start, firstBar);
+        if (text.isEmpty()) {
+            errorHandler.accept(new ParseError(lineNo, start + 1, "missing proverb text"));
+            return null;
+        }
+
+        int pathEnd = secondBar < 0 ? end : secondBar;
+        String imagePath = imagePath(line, firstBar + 1, pathEnd);
+        if (imagePath.isEmpty()) {
+            errorHandler.accept(new ParseError(lineNo, firstBar + 2, "missing image path"));
+            return null;
+        }
+
+        Proverb.Difficulty difficulty;
+        if (secondBar < 0) {
+            difficulty = ProverbLoader.difficultyFromPath(imagePath);
+        } else {
+            int columnStart = skipWhitespace(line, secondBar + 1, end);
+            difficulty = parseDifficulty(line, columnStart, trimEnd(line, columnStart, end));
+            if (difficulty == null) {
+                errorHandler.accept(new ParseError(lineNo, columnStart + 1,
+                    "unknown difficulty '" + line.substring(columnStart, trimEnd(line, columnStart, end)) + "'"));
+                return null;
+            }
+        }
+        return new Proverb(text, imagePath, difficulty);
+    }
+
+    private static Proverb.Difficulty parseDifficulty(String line, int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return null;
+        }
+        for (Proverb.Difficulty difficulty : Proverb.Difficulty.values()) {
+            String name = difficulty.name();
+            if (name.length() == length && line.regionMatches(true, from, name, 0, length)) {
+                return difficulty;
+            }
+        }
+        return null;
+    }
+
+    // The trimmed path between from and to, shared with earlier lines naming the same image
+    private String imagePath(String line, int from, int to) {
+        int start = skipWhitespace(line, from, to);
+        int stop = trimEnd(line, start, to);
+        int length = stop - start;
+        int hash = 0;
+        for (int i = start; i < stop; i++) {
+            hash = 31 * hash + line.charAt(i);
+        }
+        int slot = (hash ^ (hash >>> 16)) & (PATH_TABLE_SIZE - 1);
+        String known = paths[slot];
+        if (known != null && known.length() == length && line.regionMatches(start, known, 0, length)) {
+            return known;
+        }
+        String path = line.substring(start, stop);
+        paths[slot] = path;
+        return path;
+    }
+
+    private static String trimmed(String line, int from, int to) {
+        int start = skipWhitespace(line, from, to);
+        return line.substring(start, trimEnd(line, start, to));
+    }
+
+    private static int skipWhitespace(String line, int from, int to) {
+        while (from < to && line.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(String line, int from, int to) {
+        while (to > from && line.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+}
@@ -0,0 +1,22 @@
+package com.tibebguess;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ProverbSource
+ *
+ * An immutable proverb list that many games draw from. Game managers keep a
+ * reference to it instead of copying it, and each game asks for one
+ * difficulty in a seeded order instead of filtering and shuffling the whole
+ * list.
+ */
+public interface ProverbSource extends List<Proverb> {
+    /**
+     * Returns the proverbs of {@code difficulty} in an order drawn from
+     * {@code random}, as a view over this list: the same order filtering the
+     * list and passing it to {@link java.util.Collections#shuffle(List, Random)}
+     * would give.
+     */
+    List<Proverb> shuffled(Proverb.Difficulty difficulty, Random random);
+}
@@ -0,0 +1,411 @@
+package com.tibebguess;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ProverbStats
+ *
+ * How often each proverb is shown, answered right or wrong, revealed early or
+ * timed out, and how long players look at it before the reveal - separately
+ * for each difficulty it was played at. Every distinct proverb text gets a
+ * dense id the first time it is seen; its counters are {@link LongAdder}s in
+ * an array indexed by that id, so games on many threads update them without
+ * contending. A background thread sums the counters every
+ * {@code tibeb.statsExportSeconds} (60 by default) and replaces the export
+ * file, which is loaded again on the next start so counts keep accumulating.
+ *
+ * Export file (big-endian):
+ * <pre>
+ * header   magic "TBPS", u16 version, u16 reserved, i64 exportedAtMillis, i32 count
+ * entries  u16 textLength, text (UTF-8, clipped to 65535 bytes when first counted),
+ *          u8 difficulty mask (bit 3 = random),
+ *          per set bit: i64 shown, i64 correct, i64 wrong, i64 earlyReveals,
+ *                       i64 timeouts, i64 totalRevealMillis
+ * </pre>
+ *
+ * Usage: ProverbStats [proverb-stats.bin]   prints the exported counters
+ */
+public final class ProverbStats implements Closeable {
+    /** System property with the export interval in seconds. */
+    public static final String EXPORT_INTERVAL_PROPERTY = "tibeb.statsExportSeconds";
+
+    /** Export file name inside the data directory. */
+    public static final String FILE_NAME = "proverb-stats.bin";
+
+    static final int MAGIC = 0x54425053; // "TBPS"
+    static final short VERSION = 1;
+
+    private static final int SLOTS = Proverb.Difficulty.values().length + 1;
+    /** Longest text the export's u16 length can hold, in UTF-8 bytes. */
+    static final int MAX_TEXT_BYTES = 0xFFFF;
+
+    /**
+     * Counters of one proverb at one difficulty.
+     */
+    private static final class Counters {
+        final LongAdder shown = new LongAdder();
+        final LongAdder correct = new LongAdder();
+        final LongAdder wrong = new LongAdder();
+        final LongAdder earlyReveals = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+        final LongAdder revealMillis = new LongAdder();
+    }
+
+    /**
+     * Totals of one proverb at one difficulty (null difficulty = random mode).
+     */
+    public static final class Entry {
+        private final String text;
+        private final Proverb.Difficulty difficulty;
+        private final long shown;
+        private final long correct;
+        private final long wrong;
+        private final long earlyReveals;
+        private final long timeouts;
+        private final long totalRevealMillis;
+
+        Entry(String text, Proverb.Difficulty difficulty, long shown, long correct, long wrong,
+              long earlyReveals, long timeouts, long totalRevealMillis) {
+            this.text = text;
+            this.difficulty = difficulty;
+            this.shown = shown;
+            this.correct = correct;
+            this.wrong = wrong;
+            this.earlyReveals = earlyReveals;
+            this.timeouts = timeouts;
+            this.totalRevealMillis = totalRevealMillis;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public Proverb.Difficulty getDifficulty() {
+            return difficulty;
+        }
+
+        public long getShown() {
+            return shown;
+        }
+
+        public long getCorrect() {
+            return correct;
+        }
+
+        public long getWrong() {
+            return wrong;
+        }
+
+        public long getEarlyReveals() {
+            return earlyReveals;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public long getTotalRevealMillis() {
+            return totalRevealMillis;
+        }
+
+        /**
+         * Returns the share of answers that were correct, or 0 before any answer.
+         */
+        public double getSolveRate() {
+            long answered = correct + wrong;
+            return answered == 0 ? 0 : (double) correct / answered;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Object growLock = new Object();
+    // Indexed by id, and by id * SLOTS + difficulty slot; replaced when full, elements set under growLock
+    private volatile String[] texts = new String[64];
+    private volatile Counters[] counters = new Counters[64 * SLOTS];
+    // Ids below this have their text stored; raised under growLock after the store
+    private volatile int published;
+
+    private final Path file;
+    private final ScheduledExecutorService exporter;
+
+    private ProverbStats(Path file, long exportIntervalSeconds) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            for (Entry entry : read(file)) {
+                Counters counter = counters(entry.getText(), entry.getDifficulty());
+                counter.shown.add(entry.getShown());
+                counter.correct.add(entry.getCorrect());
+                counter.wrong.add(entry.getWrong());
+                counter.earlyReveals.add(entry.getEarlyReveals());
+                counter.timeouts.add(entry.getTimeouts());
+                counter.revealMillis.add(entry.getTotalRevealMillis());
+            }
+        }
+        this.exporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "proverb-stats-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (exportIntervalSeconds > 0) {
+            exporter.scheduleWithFixedDelay(this::exportQuietly, exportIntervalSeconds, exportIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Opens the statistics exported to {@code directory} (starting from zero
+     * if there are none) and starts the periodic export.
+     */
+    public static ProverbStats open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new ProverbStats(directory.resolve(FILE_NAME), Long.getLong(EXPORT_INTERVAL_PROPERTY, 60));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = args.length > 0 ? Paths.get(args[0]) : GameHistory.defaultDirectory().resolve(FILE_NAME);
+        List<Entry> entries = read(path);
+        entries.sort(Comparator.comparingDouble(Entry::getSolveRate));
+        System.out.println("solved  shown  right  wrong  early  timeout  avgReveal  difficulty  proverb");
+        for (Entry entry : entries) {
+            long reveals = entry.getEarlyReveals() + entry.getTimeouts();
+            System.out.printf(Locale.ROOT, "%5.1f%%  %5d  %5d  %5d  %5d  %7d  %8.1fs  %-10s  %s%n",
+                entry.getSolveRate() * 100, entry.getShown(), entry.getCorrect(), entry.getWrong(),
+                entry.getEarlyReveals(), entry.getTimeouts(),
+                reveals == 0 ? 0.0 : entry.getTotalRevealMillis() / 1000.0 / reveals,
+                entry.getDifficulty() == null ? "RANDOM" : entry.getDifficulty(), entry.getText());
+        }
+    }
+
+    public void recordShown(Proverb proverb, Proverb.Difficulty difficulty) {
+        counters(proverb.getText(), difficulty).shown.increment();
+    }
+
+    /**
+     * Records a reveal {@code revealMillis} after the round started, either
+     * asked for by the player or because time ran out.
+     */
+    public void recordReveal(Proverb proverb, Proverb.Difficulty difficulty, long revealMillis, boolean early) {
+        Counters counter = counters(proverb.getText(), difficulty);
+        (early ? counter.earlyReveals : counter.timeouts).increment();
+        counter.revealMillis.add(revealMillis);
+    }
+
+    public void recordAnswer(Proverb proverb, Proverb.Difficulty difficulty, boolean correct) {
+        Counters counter = counters(proverb.getText(), difficulty);
+        (correct ? counter.correct : counter.wrong).increment();
+    }
+
+    /**
+     * Sums the counters of every proverb. Runs alongside recording; counts
+     * that change meanwhile may or may not be included.
+     */
+    public List<Entry> snapshot() {
+        int published = this.published;
+        String[] texts = this.texts;
+        Counters[] counters = this.counters;
+        List<Entry> entries = new ArrayList<>();
+        for (int id = 0; id < published; id++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Counters counter = counters[id * SLOTS + slot];
+                if (counter != null) {
+                    entries.add(new Entry(texts[id], difficulty(slot), counter.shown.sum(), counter.correct.sum(),
+                        counter.wrong.sum(), counter.earlyReveals.sum(), counter.timeouts.sum(), counter.revealMillis.sum()));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the current totals to the export file, replacing it atomically.
+     */
+    public void export() throws IOException {
+        List<Entry> entries = snapshot();
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                int count = 0;
+                for (int i = 0; i < entries.size(); count++) {
+                    i = nextText(entries, i);
+                }
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeShort(0);
+                out.writeLong(System.currentTimeMillis());
+                out.writeInt(count);
+                for (int i = 0; i < entries.size(); ) {
+                    int end = nextText(entries, i);
+                    byte[] text = entries.get(i).getText().getBytes(StandardCharsets.UTF_8);
+                    int mask = 0;
+                    for (int j = i; j < end; j++) {
+                        mask |= 1 << slot(entries.get(j).getDifficulty());
+                    }
+                    out.writeShort(text.length);
+                    out.write(text);
+                    out.writeByte(mask);
+                    for (int j = i; j < end; j++) {
+                        Entry entry = entries.get(j);
+                        out.writeLong(entry.getShown());
+                        out.writeLong(entry.getCorrect());
+                        out.writeLong(entry.getWrong());
+                        out.writeLong(entry.getEarlyReveals());
+                        out.writeLong(entry.getTimeouts());
+                        out.writeLong(entry.getTotalRevealMillis());
+                    }
+                    i = end;
+                }
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads an export file.
+     */
+    public static List<Entry> read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a proverb statistics file: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported proverb statistics version " + version);
+            }
+            in.readShort();
+            in.readLong();
+            int count = in.readInt();
+            List<Entry> entries = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                byte[] text = new byte[in.readUnsignedShort()];
+                in.readFully(text);
+                String decoded = new String(text, StandardCharsets.UTF_8);
+                int mask = in.readUnsignedByte();
+                for (int slot = 0; slot < SLOTS; slot++) {
+                    if ((mask & (1 << slot)) != 0) {
+                        entries.add(new Entry(decoded, difficulty(slot), in.readLong(), in.readLong(), in.readLong(),
+                            in.readLong(), in.readLong(), in.readLong()));
+                    }
+                }
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Stops the periodic export and writes the totals one last time.
+     */
+    @Override
+    public void close() throws IOException {
+        exporter.shutdownNow();
+        try {
+            exporter.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        export();
+    }
+
+    private void exportQuietly() {
+        try {
+            export();
+        } catch (IOException e) {
+            System.err.println("Could not export proverb statistics: " + e.getMessage());
+        }
+    }
+
+    // Entries of one text are adjacent in a snapshot
+    private static int nextText(List<Entry> entries, int from) {
+        int end = from + 1;
+        while (end < entries.size() && entries.get(end).getText().equals(entries.get(from).getText())) {
+            end++;
+        }
+        return end;
+    }
+
+    private Counters counters(String text, Proverb.Difficulty difficulty) {
+        Integer id = ids.get(text);
+        int index = (id != null ? id : register(text)) * SLOTS + slot(difficulty);
+        Counters counter = counters[index];
+        return counter != null ? counter : create(index);
+    }
+
+    private int register(String text) {
+        String key = clip(text);
+        synchronized (growLock) {
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = published;
+                if (id == texts.length) {
+                    texts = Arrays.copyOf(texts, id * 2);
+                    counters = Arrays.copyOf(counters, id * 2 * SLOTS);
+                }
+                texts[id] = key;
+                published = id + 1;
+                ids.put(key, id);
+            }
+            if (key != text) {
+                ids.put(text, id); // later lookups of the full text skip clipping
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Returns {@code text} cut to at most {@link #MAX_TEXT_BYTES} UTF-8
+     * bytes on a character boundary.
+     */
+    static String clip(String text) {
+        if (text.length() <= MAX_TEXT_BYTES / 3) {
+            return text; // at most 3 bytes per char
+        }
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length <= MAX_TEXT_BYTES) {
+            return text;
+        }
+        int end = MAX_TEXT_BYTES;
+        while ((utf8[end] & 0xC0) == 0x80) {
+            end--; // back off a character cut in half
+        }
+        return new String(utf8, 0, end, StandardCharsets.UTF_8);
+    }
+
+    private Counters create(int index) {
+        synchronized (growLock) {
+            Counters[] table = counters;
+            if (table[index] == null) {
+                table[index] = new Counters();
+            }
+            return table[index];
+        }
+    }
+
+    private static int slot(Proverb.Difficulty difficulty) {
+        return difficulty == null ? SLOTS - 1 : difficulty.ordinal();
+    }
+
+    private static Proverb.Difficulty difficulty(int slot) {
+        return slot < SLOTS - 1 ? Proverb.Difficulty.values()[slot] : null;
+    }
+}
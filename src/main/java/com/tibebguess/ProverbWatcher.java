@@ -0,0 +1,224 @@
+package com.tibebguess;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * ProverbWatcher
+ *
+ * Hot reload for event deployments: watches an external proverbs file and
+ * image directory with a {@link WatchService} on its own daemon thread.
+ * When the proverbs file changes only new or edited lines are parsed again
+ * (unchanged lines keep their {@link Proverb} objects); when an image
+ * changes only that image is reported. The catalog is replaced atomically
+ * and listeners are notified, so nothing blocks the FX thread or the round
+ * that is being played.
+ */
+public class ProverbWatcher implements Closeable {
+    /** System property naming the external proverbs file. */
+    public static final String PROVERBS_FILE_PROPERTY = "tibeb.proverbsFile";
+    private static final long SETTLE_MILLIS = 200;
+
+    /**
+     * Receives reload notifications on the watcher thread.
+     */
+    public interface Listener {
+        void proverbsChanged(List<Proverb> proverbs);
+
+        void imageChanged(String resourcePath);
+    }
+
+    private final Path proverbsFile;
+    private final Path imageDir;
+    private final Listener listener;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+    private final Map<String, Proverb> parsedLines = new HashMap<>();
+    private Thread thread;
+
+    public ProverbWatcher(Path proverbsFile, Path imageDir, Listener listener) throws IOException {
+        this.proverbsFile = proverbsFile != null ? proverbsFile.toAbsolutePath().normalize() : null;
+        this.imageDir = imageDir != null ? imageDir.toAbsolutePath().normalize() : null;
+        this.listener = listener;
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Parses the proverbs file in full, remembering each line for later
+     * incremental reloads, and publishes the proverbs in the catalog.
+     * Returns an empty list if there is no file or it cannot be read.
+     */
+    public synchronized List<Proverb> loadInitial() {
+        List<Proverb> proverbs = proverbsFile != null ? reparseProverbs() : null;
+        if (proverbs == null || proverbs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ProverbCatalog.replace(ProverbCatalog.get().withProverbs(proverbs));
+        return proverbs;
+    }
+
+    /**
+     * Starts watching on a daemon thread.
+     */
+    public synchronized void start() throws IOException {
+        if (proverbsFile != null) {
+            register(proverbsFile.getParent());
+        }
+        if (imageDir != null && Files.isDirectory(imageDir)) {
+            registerTree(imageDir);
+        }
+        thread = new Thread(this::watchLoop, "proverb-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                // Editors and copy tools fire bursts of events; let them settle
+                Set<Path> changed = new LinkedHashSet<>();
+                collect(key, changed);
+                WatchKey more;
+                while ((more = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(more, changed);
+                }
+                handleChanges(changed);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path dir = watchedDirs.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (dir != null && event.kind() != StandardWatchEventKinds.OVERFLOW) {
+                changed.add(dir.resolve((Path) event.context()));
+            }
+        }
+        if (!key.reset()) {
+            watchedDirs.remove(key);
+        }
+    }
+
+    synchronized void handleChanges(Set<Path> changed) {
+        for (Path path : changed) {
+            try {
+                if (path.equals(proverbsFile)) {
+                    List<Proverb> proverbs = reparseProverbs();
+                    if (proverbs == null) {
+                        continue;
+                    }
+                    ProverbCatalog.replace(ProverbCatalog.get().withProverbs(proverbs));
+                    listener.proverbsChanged(proverbs);
+                } else if (imageDir != null && path.startsWith(imageDir)) {
+                    if (Files.isDirectory(path)) {
+                        registerTree(path);
+                    } else if (isImage(path)) {
+                        imageChanged(path);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Error reloading " + path + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Re-reads the file, parsing only lines that were not seen before;
+     * returns null, leaving everything as it was, if the file cannot be read.
+     */
+    private List<Proverb> reparseProverbs() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(proverbsFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Error reading proverbs file " + proverbsFile + ": " + e.getMessage());
+            return null;
+        }
+
+        ProverbParser parser = new ProverbParser(Reader.nullReader());
+        Map<String, Proverb> current = new HashMap<>(lines.size() * 2);
+        List<Proverb> proverbs = new ArrayList<>(lines.size());
+        int reparsed = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            Proverb proverb;
+            if (parsedLines.containsKey(line)) {
+                proverb = parsedLines.get(line);
+            } else {
+                proverb = parser.parseLine(line, i + 1);
+                reparsed++;
+            }
+            current.put(line, proverb);
+            if (proverb != null) {
+                proverbs.add(proverb);
+            }
+        }
+        parsedLines.clear();
+        parsedLines.putAll(current);
+        System.out.println("Reloaded " + proverbs.size() + " proverbs (" + reparsed + " lines parsed) from " + proverbsFile);
+        return Collections.unmodifiableList(proverbs);
+    }
+
+    private void imageChanged(Path file) throws IOException {
+        String resourcePath = AssetBundle.resourcePathOf(imageDir, file);
+        ProverbCatalog.ImageInfo info = null;
+        if (Files.isRegularFile(file)) {
+            info = new ProverbCatalog.ImageInfo(resourcePath, ProverbLoader.difficultyFromPath(resourcePath),
+                Files.size(file), 0, 0);
+        }
+        ProverbCatalog.replace(ProverbCatalog.get().withImage(resourcePath, info));
+        listener.imageChanged(resourcePath);
+    }
+
+    private static boolean isImage(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        return name.endsWith(".jpg") || name.endsWith(".png") || name.endsWith(".jpeg");
+    }
+
+    private void registerTree(Path root) throws IOException {
+        try (Stream<Path> dirs = Files.walk(root)) {
+            for (Path dir : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                register(dir);
+            }
+        }
+    }
+
+    private void register(Path dir) throws IOException {
+        WatchKey key = dir.register(watchService,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE);
+        watchedDirs.put(key, dir);
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.tibebguess;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * SavedGame
+ *
+ * Everything needed to continue an unfinished game after a restart: the
+ * seed its proverbs were shuffled from, the difficulty, the round to resume
+ * at and the score, hearts and outcomes so far. The proverb order itself is
+ * not stored; it is shuffled again from the seed, and the hash of the text
+ * at the resume round tells whether the proverbs are still the same.
+ *
+ * Encoding (big-endian, {@link #ENCODED_FIXED_SIZE} bytes plus one per outcome):
+ * <pre>
+ * magic "TBSG", u16 version, u16 reserved, i64 savedAtMillis, i64 seed,
+ * u8 difficulty (3 = random), u8 flags (bit 0 = proverbs picked by a mode),
+ * u8 hearts, u8 reserved, i32 score, i32 roundIndex, i32 totalRounds,
+ * i32 secondsRemaining (0 = a full round), i32 proverb text hash,
+ * i32 outcomeCount, outcomeCount x u8 outcome
+ * </pre>
+ */
+public final class SavedGame {
+    static final int MAGIC = 0x54425347; // "TBSG"
+    static final short VERSION = 2;
+    static final int ENCODED_FIXED_SIZE = 52;
+
+    /** Flag: the proverbs were picked by the adaptive or learning mode, not shuffled from the seed. */
+    static final int FLAG_PICKED = 1;
+
+    private final long savedAtMillis;
+    private final long seed;
+    private final Proverb.Difficulty difficulty;
+    private final int flags;
+    private final int score;
+    private final int hearts;
+    private final int roundIndex;
+    private final int totalRounds;
+    private final int secondsRemaining;
+    private final int proverbHash;
+    private final byte[] outcomes;
+
+    SavedGame(long savedAtMillis, long seed, Proverb.Difficulty difficulty, int flags, int score, int hearts,
+              int roundIndex, int totalRounds, int secondsRemaining, int proverbHash, byte[] outcomes) {
+        this.savedAtMillis = savedAtMillis;
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.flags = flags;
+        this.score = score;
+        this.hearts = hearts;
+        this.roundIndex = roundIndex;
+        this.totalRounds = totalRounds;
+        this.secondsRemaining = secondsRemaining;
+        this.proverbHash = proverbHash;
+        this.outcomes = outcomes;
+    }
+
+    public long getSavedAtMillis() {
+        return savedAtMillis;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the difficulty the game was played at, or null in random mode.
+     */
+    public Proverb.Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    boolean isPicked() {
+        return (flags & FLAG_PICKED) != 0;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getHearts() {
+        return hearts;
+    }
+
+    /**
+     * Returns the index of the round the game resumes at.
+     */
+    public int getRoundIndex() {
+        return roundIndex;
+    }
+
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+
+    /**
+     * Returns the seconds the resumed round gets, or 0 for a full round.
+     */
+    public int getSecondsRemaining() {
+        return secondsRemaining;
+    }
+
+    int getProverbHash() {
+        return proverbHash;
+    }
+
+    byte[] getOutcomes() {
+        return outcomes.clone();
+    }
+
+    byte[] encode() {
+        ByteBuffer out = ByteBuffer.allocate(ENCODED_FIXED_SIZE + outcomes.length);
+        out.putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+        out.putLong(savedAtMillis).putLong(seed);
+        out.put((byte) (difficulty == null ? 3 : difficulty.ordinal()));
+        out.put((byte) flags).put((byte) hearts).put((byte) 0);
+        out.putInt(score);
+        out.putInt(roundIndex).putInt(totalRounds).putInt(secondsRemaining);
+        out.putInt(proverbHash);
+        out.putInt(outcomes.length).put(outcomes);
+        return out.array();
+    }
+
+    static SavedGame decode(ByteBuffer in) throws IOException {
+        if (in.remaining() < ENCODED_FIXED_SIZE || in.getInt() != MAGIC) {
+            throw new IOException("Not a saved game");
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported saved game version " + version);
+        }
+        in.getShort();
+        long savedAt = in.getLong();
+        long seed = in.getLong();
+        int level = in.get() & 0xFF;
+        Proverb.Difficulty difficulty = level < Proverb.Difficulty.values().length ? Proverb.Difficulty.values()[level] : null;
+        int flags = in.get() & 0xFF;
+        int hearts = in.get() & 0xFF;
+        in.get();
+        int score = in.getInt();
+        int roundIndex = in.getInt();
+        int totalRounds = in.getInt();
+        int secondsRemaining = in.getInt();
+        int proverbHash = in.getInt();
+        int count = in.getInt();
+        if (roundIndex < 0 || totalRounds < 0 || secondsRemaining < 0 || count < 0) {
+            throw new IOException("Corrupt saved game");
+        }
+        if (in.remaining() < count) {
+            throw new IOException("Truncated saved game");
+        }
+        byte[] outcomes = new byte[count];
+        in.get(outcomes);
+        return new SavedGame(savedAt, seed, difficulty, flags, score, hearts, roundIndex, totalRounds,
+            secondsRemaining, proverbHash, outcomes);
+    }
+
+    @Override
+    public String toString() {
+        return "SavedGame{difficulty=" + (difficulty == null ? "RANDOM" : difficulty)
+            + ", round=" + (roundIndex + 1) + "/" + totalRounds + ", score=" + score + ", hearts=" + hearts + "}";
+    }
+}
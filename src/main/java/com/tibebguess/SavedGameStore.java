@@ -0,0 +1,130 @@
+package com.tibebguess;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SavedGameStore
+ *
+ * Keeps the latest {@link SavedGame} of the running game in one small file so
+ * the game can be resumed after a crash or restart. {@link #save} only hands
+ * the snapshot over; a writer thread writes the newest one to a temporary
+ * file, syncs it and moves it into place, so the game and FX threads never
+ * wait for the disk and a crash leaves either the old or the new snapshot.
+ * Snapshots that arrive while one is being written replace each other, and
+ * only the newest is written.
+ */
+public final class SavedGameStore implements Closeable {
+    /** Saved game file name inside the data directory. */
+    public static final String FILE_NAME = "saved-game.bin";
+
+    private static final Object CLEAR = new Object();
+
+    private final Path file;
+    private final AtomicReference<Object> pending = new AtomicReference<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "saved-game-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private SavedGameStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Opens the saved game file in {@code directory}.
+     */
+    public static SavedGameStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new SavedGameStore(directory.resolve(FILE_NAME).toAbsolutePath());
+    }
+
+    /**
+     * Returns the saved game, or null if there is none or it cannot be read.
+     */
+    public SavedGame load() {
+        try {
+            return Files.exists(file) ? SavedGame.decode(ByteBuffer.wrap(Files.readAllBytes(file))) : null;
+        } catch (IOException e) {
+            System.err.println("Could not read saved game: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the saved game with {@code game} in the background.
+     */
+    public void save(SavedGame game) {
+        submit(game);
+    }
+
+    /**
+     * Removes the saved game in the background, once the game is over.
+     */
+    public void clear() {
+        submit(CLEAR);
+    }
+
+    /**
+     * Writes the last snapshot handed over and stops the writer.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Object update) {
+        if (pending.getAndSet(update) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        Object update = pending.getAndSet(null);
+        if (update == null) {
+            return;
+        }
+        try {
+            if (update == CLEAR) {
+                Files.deleteIfExists(file);
+            } else {
+                write(((SavedGame) update).encode());
+            }
+        } catch (IOException e) {
+            System.err.println("Could not save game progress: " + e.getMessage());
+        }
+    }
+
+    private void write(byte[] encoded) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(encoded);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.tibebguess;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SharedGameScheduler
+ *
+ * Process-wide {@link GameScheduler} backed by a single daemon
+ * {@link ScheduledThreadPoolExecutor}. Callbacks must be short: they run on
+ * the shared scheduler thread, so anything touching JavaFX nodes still has to
+ * go through {@code Platform.runLater}.
+ */
+public final class SharedGameScheduler implements GameScheduler {
+
+    private static final class Holder {
+        static final SharedGameScheduler INSTANCE = new SharedGameScheduler();
+    }
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private SharedGameScheduler() {
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "game-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Cancelled countdowns should not linger in the queue until their deadline
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    public static SharedGameScheduler getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public Task schedule(Runnable task, long delayMillis) {
+        ScheduledFuture<?> future = executor.schedule(guard(task), delayMillis, TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+    }
+
+    @Override
+    public Task scheduleAtFixedRate(Runnable task, long initialDelayMillis, long periodMillis) {
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(guard(task), initialDelayMillis, periodMillis, TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Keeps one failing game callback from silently killing a periodic task
+     * without a trace.
+     */
+    private static Runnable guard(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error in scheduled game task: " + e);
+                throw e;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.tibebguess;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+
+/**
+ * SharedProverbs
+ *
+ * A proverb list copied once and shared by every session of a
+ * {@link GameServer}. The positions of each difficulty are indexed up front,
+ * so a game shuffles a small array of positions and reads proverbs through it
+ * rather than copying and shuffling the catalog.
+ */
+public final class SharedProverbs extends AbstractList<Proverb> implements ProverbSource, RandomAccess {
+    private final Proverb[] proverbs;
+    // Positions of each difficulty's proverbs, in list order
+    private final int[][] positions;
+
+    private SharedProverbs(List<Proverb> proverbs) {
+        this.proverbs = proverbs.toArray(new Proverb[0]);
+        int[] counts = new int[Proverb.Difficulty.values().length];
+        for (Proverb proverb : this.proverbs) {
+            counts[proverb.getDifficulty().ordinal()]++;
+        }
+        this.positions = new int[counts.length][];
+        for (int level = 0; level < counts.length; level++) {
+            positions[level] = new int[counts[level]];
+            counts[level] = 0;
+        }
+        for (int i = 0; i < this.proverbs.length; i++) {
+            int level = this.proverbs[i].getDifficulty().ordinal();
+            positions[level][counts[level]++] = i;
+        }
+    }
+
+    /**
+     * Returns {@code proverbs} itself if it is already a source, else an
+     * indexed copy of it.
+     */
+    public static ProverbSource of(List<Proverb> proverbs) {
+        return proverbs instanceof ProverbSource ? (ProverbSource) proverbs : new SharedProverbs(proverbs);
+    }
+
+    @Override
+    public Proverb get(int index) {
+        return proverbs[index];
+    }
+
+    @Override
+    public int size() {
+        return proverbs.length;
+    }
+
+    @Override
+    public List<Proverb> shuffled(Proverb.Difficulty difficulty, Random random) {
+        int[] order = positions[difficulty.ordinal()].clone();
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return new Selection(order);
+    }
+
+    /**
+     * Read-only view of the proverbs at the given positions.
+     */
+    private final class Selection extends AbstractList<Proverb> implements RandomAccess {
+        private final int[] order;
+
+        Selection(int[] order) {
+            this.order = order;
+        }
+
+        @Override
+        public Proverb get(int index) {
+            return proverbs[order[index]];
+        }
+
+        @Override
+        public int size() {
+            return order.length;
+        }
+    }
+}
@@ -0,0 +1,571 @@
+package com.tibebguess;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SpacedRepetition
+ *
+ * Learning mode: every player has a deck with one card per proverb they have
+ * played, scheduled with the SM-2 algorithm. A right answer pushes the card
+ * out by a growing interval (1 day, 6 days, then times the card's easiness);
+ * a wrong one brings it back in ten minutes and starts the intervals over.
+ * Each round plays the card that is due soonest, or the next proverb of the
+ * catalog the player has not seen yet when nothing is due.
+ *
+ * A deck keeps its cards in parallel arrays and an indexed binary heap
+ * ordered by due time, so finding the next card and rescheduling one are
+ * O(log n) however big the deck is. The catalog is indexed by proverb id once
+ * per catalog list, and each deck keeps a cursor into it below which every
+ * proverb already has a card, so unseen proverbs cost O(1) amortized rather
+ * than a scan per game. Decks are saved every
+ * {@code tibeb.cardsSaveSeconds} (60 by default) when they changed, and on
+ * close.
+ *
+ * Card file (big-endian):
+ * <pre>
+ * header  magic "TBSR", u16 version, u16 reserved, i64 savedAtMillis,
+ *         i32 textCount, i32 deckCount
+ * texts   u16 textLength, text (UTF-8); a card's proverb id is its text's position
+ * decks   u16 nameLength, name (UTF-8), i32 cardCount,
+ *         cards: i32 proverbId, i32 dueMinutes (since the epoch), u16 intervalDays,
+ *                u8 repetitions, u8 easiness (EF * 100 - 130)
+ * </pre>
+ */
+public final class SpacedRepetition implements Closeable {
+    /** System property with the save interval in seconds. */
+    public static final String SAVE_INTERVAL_PROPERTY = "tibeb.cardsSaveSeconds";
+
+    /** Card file name inside the data directory. */
+    public static final String FILE_NAME = "cards.bin";
+
+    static final int MAGIC = 0x54425352; // "TBSR"
+    static final short VERSION = 1;
+
+    private static final int INITIAL_EASINESS = 250 - 130;
+    private static final int RELEARN_MINUTES = 10;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MAX_INTERVAL_DAYS = 36500;
+    private static final int SUSPENDED = Integer.MAX_VALUE;
+
+    /**
+     * One player's cards at one difficulty.
+     */
+    public static final class Deck {
+        private final String name;
+        private final AtomicLong changes;
+        // Per card slot
+        private int[] proverbIds = new int[16];
+        private int[] dueMinutes = new int[16];
+        private int[] intervalDays = new int[16];
+        private byte[] repetitions = new byte[16];
+        private byte[] easiness = new byte[16];
+        private final Map<Integer, Integer> slots = new HashMap<>();
+        // Binary min-heap of slots by due time, and each slot's heap position
+        private int[] heap = new int[16];
+        private int[] heapIndex = new int[16];
+        private int size;
+        // Position in the catalog's order below which every proverb has a card
+        private Catalog cursorCatalog;
+        private int cursor;
+
+        Deck(String name, AtomicLong changes) {
+            this.name = name;
+            this.changes = changes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public synchronized int size() {
+            return size;
+        }
+
+        synchronized int slotOf(int proverbId) {
+            Integer slot = slots.get(proverbId);
+            return slot == null ? -1 : slot;
+        }
+
+        /** Slot of the card due soonest, or -1 for an empty deck. */
+        synchronized int first() {
+            return size == 0 ? -1 : heap[0];
+        }
+
+        synchronized int proverbId(int slot) {
+            return proverbIds[slot];
+        }
+
+        synchronized int dueMinutes(int slot) {
+            return dueMinutes[slot];
+        }
+
+        synchronized int add(int proverbId, int due, int interval, int reps, int ease) {
+            if (size == proverbIds.length) {
+                int capacity = size * 2;
+                proverbIds = Arrays.copyOf(proverbIds, capacity);
+                dueMinutes = Arrays.copyOf(dueMinutes, capacity);
+                intervalDays = Arrays.copyOf(intervalDays, capacity);
+                repetitions = Arrays.copyOf(repetitions, capacity);
+                easiness = Arrays.copyOf(easiness, capacity);
+                heap = Arrays.copyOf(heap, capacity);
+                heapIndex = Arrays.copyOf(heapIndex, capacity);
+            }
+            int slot = size++;
+            proverbIds[slot] = proverbId;
+            dueMinutes[slot] = due;
+            intervalDays[slot] = interval;
+            repetitions[slot] = (byte) reps;
+            easiness[slot] = (byte) ease;
+            slots.put(proverbId, slot);
+            heap[slot] = slot;
+            heapIndex[slot] = slot;
+            siftUp(slot);
+            return slot;
+        }
+
+        /**
+         * Applies an SM-2 review of {@code quality} 0 (blackout) to 5
+         * (perfect) to the card in {@code slot}.
+         */
+        synchronized void review(int slot, int quality, int nowMinutes) {
+            int reps = repetitions[slot];
+            int interval = intervalDays[slot];
+            int ease = (easiness[slot] & 0xFF) + 130;
+            ease = Math.max(130, Math.min(385, ease + 10 - (5 - quality) * (8 + (5 - quality) * 2)));
+            int due;
+            if (quality < 3) {
+                reps = 0;
+                interval = 0;
+                due = nowMinutes + RELEARN_MINUTES;
+            } else {
+                reps = Math.min(reps + 1, 127);
+                interval = reps == 1 ? 1 : reps == 2 ? 6 : (int) Math.min(MAX_INTERVAL_DAYS, Math.round(interval * ease / 100.0));
+                due = nowMinutes + interval * MINUTES_PER_DAY;
+            }
+            repetitions[slot] = (byte) reps;
+            intervalDays[slot] = interval;
+            easiness[slot] = (byte) (ease - 130);
+            reschedule(slot, due);
+            changes.incrementAndGet();
+        }
+
+        /**
+         * Gives the first proverb of {@code order} without a card a new card
+         * due {@code now}, or brings back a suspended one, and returns its
+         * slot; -1 when every proverb has a playable card. The cursor only
+         * moves forward until the catalog changes.
+         */
+        synchronized int drawUnseen(Catalog catalog, int[] order, int now) {
+            if (cursorCatalog != catalog) {
+                cursorCatalog = catalog;
+                cursor = 0;
+            }
+            for (; cursor < order.length; cursor++) {
+                Integer slot = slots.get(order[cursor]);
+                if (slot == null) {
+                    changes.incrementAndGet();
+                    return add(order[cursor], now, 0, 0, INITIAL_EASINESS);
+                }
+                if (dueMinutes[slot] == SUSPENDED) {
+                    reschedule(slot, now); // back in the catalog
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        synchronized int intervalDays(int slot) {
+            return intervalDays[slot];
+        }
+
+        synchronized int repetitions(int slot) {
+            return repetitions[slot];
+        }
+
+        /** Easiness factor times 100, 130 to 385. */
+        synchronized int easiness(int slot) {
+            return (easiness[slot] & 0xFF) + 130;
+        }
+
+        /** Moves a card to {@code due}; {@link #SUSPENDED} parks it behind every other card. */
+        synchronized void reschedule(int slot, int due) {
+            int old = dueMinutes[slot];
+            dueMinutes[slot] = due;
+            if (due < old) {
+                siftUp(heapIndex[slot]);
+            } else {
+                siftDown(heapIndex[slot]);
+            }
+        }
+
+        /** Writes the cards whose proverb id is below {@code textCount}. */
+        synchronized void write(DataOutputStream out, int textCount) throws IOException {
+            byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(encoded.length);
+            out.write(encoded);
+            int count = 0;
+            for (int slot = 0; slot < size; slot++) {
+                count += proverbIds[slot] < textCount ? 1 : 0;
+            }
+            out.writeInt(count);
+            for (int slot = 0; slot < size; slot++) {
+                if (proverbIds[slot] >= textCount) {
+                    continue;
+                }
+                out.writeInt(proverbIds[slot]);
+                out.writeInt(dueMinutes[slot]);
+                out.writeShort(intervalDays[slot]);
+                out.writeByte(repetitions[slot]);
+                out.writeByte(easiness[slot]);
+            }
+        }
+
+        private void siftUp(int position) {
+            int slot = heap[position];
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (dueMinutes[heap[parent]] <= dueMinutes[slot]) {
+                    break;
+                }
+                place(heap[parent], position);
+                position = parent;
+            }
+            place(slot, position);
+        }
+
+        private void siftDown(int position) {
+            int slot = heap[position];
+            while (true) {
+                int child = 2 * position + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && dueMinutes[heap[child + 1]] < dueMinutes[heap[child]]) {
+                    child++;
+                }
+                if (dueMinutes[heap[child]] >= dueMinutes[slot]) {
+                    break;
+                }
+                place(heap[child], position);
+                position = child;
+            }
+            place(slot, position);
+        }
+
+        private void place(int slot, int position) {
+            heap[position] = slot;
+            heapIndex[slot] = position;
+        }
+    }
+
+    /**
+     * The proverbs of one catalog list by id, and the ids of each difficulty
+     * (and of random mode, all of them) in catalog order.
+     */
+    private static final class Catalog {
+        private final List<Proverb> source;
+        private final Proverb[] byId;
+        private final int[][] order;
+
+        Catalog(List<Proverb> source, Proverb[] byId, int[][] order) {
+            this.source = source;
+            this.byId = byId;
+            this.order = order;
+        }
+
+        int[] order(Proverb.Difficulty difficulty) {
+            return order[difficulty == null ? order.length - 1 : difficulty.ordinal()];
+        }
+
+        /** The proverb with {@code id} if this catalog has it at {@code difficulty}, else null. */
+        Proverb proverb(int id, Proverb.Difficulty difficulty) {
+            Proverb proverb = id < byId.length ? byId[id] : null;
+            return proverb != null && (difficulty == null || proverb.getDifficulty() == difficulty) ? proverb : null;
+        }
+    }
+
+    /**
+     * One game in learning mode: picks each round's proverb from the deck and
+     * reviews it with the answer.
+     */
+    public final class Session {
+        private final Deck deck;
+        private final Catalog catalog;
+        private final Proverb.Difficulty difficulty;
+        private int currentSlot = -1;
+
+        Session(Deck deck, Catalog catalog, Proverb.Difficulty difficulty) {
+            this.deck = deck;
+            this.catalog = catalog;
+            this.difficulty = difficulty;
+        }
+
+        public Deck getDeck() {
+            return deck;
+        }
+
+        /**
+         * Returns the card due soonest if it is due at {@code nowMillis},
+         * else a proverb the player has not had, else the card due soonest
+         * anyway; null only when there are no proverbs at all.
+         */
+        public Proverb next(long nowMillis) {
+            int now = minutes(nowMillis);
+            int slot = firstPlayable();
+            if (slot >= 0 && deck.dueMinutes(slot) <= now) {
+                return play(slot);
+            }
+            int unseen = deck.drawUnseen(catalog, catalog.order(difficulty), now);
+            if (unseen >= 0) {
+                return play(unseen);
+            }
+            return slot >= 0 ? play(slot) : null;
+        }
+
+        /**
+         * Reviews the proverb last returned by {@link #next} with an SM-2
+         * quality of 0 to 5.
+         */
+        public void recordAnswer(int quality, long nowMillis) {
+            if (currentSlot >= 0) {
+                deck.review(currentSlot, quality, minutes(nowMillis));
+                currentSlot = -1;
+            }
+        }
+
+        private int firstPlayable() {
+            for (int slot = deck.first(); slot >= 0 && deck.dueMinutes(slot) != SUSPENDED; slot = deck.first()) {
+                if (catalog.proverb(deck.proverbId(slot), difficulty) != null) {
+                    return slot;
+                }
+                deck.reschedule(slot, SUSPENDED); // removed from the catalog since
+            }
+            return -1;
+        }
+
+        private Proverb play(int slot) {
+            currentSlot = slot;
+            return catalog.proverb(deck.proverbId(slot), difficulty);
+        }
+    }
+
+    private final ConcurrentHashMap<String, Deck> decks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> texts = new ArrayList<>(); // guarded by itself
+    private final AtomicLong changes = new AtomicLong();
+    private volatile Catalog catalog;
+    private long savedChanges;
+
+    private final Path file;
+    private final ScheduledExecutorService saver;
+
+    private SpacedRepetition(Path file, long saveIntervalSeconds) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            load();
+        }
+        this.saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spaced-repetition-save");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (saveIntervalSeconds > 0) {
+            saver.scheduleWithFixedDelay(this::saveQuietly, saveIntervalSeconds, saveIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Opens the decks saved in {@code directory} (none if there are none yet)
+     * and starts the periodic save.
+     */
+    public static SpacedRepetition open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new SpacedRepetition(directory.resolve(FILE_NAME), Long.getLong(SAVE_INTERVAL_PROPERTY, 60));
+    }
+
+    /**
+     * Starts a learning game on {@code player}'s deck for {@code difficulty}
+     * (null for random mode) over the whole {@code catalog}, drawing unseen
+     * proverbs of that difficulty in catalog order. Pass the same list for
+     * every game: it is indexed again only when a different list comes in.
+     */
+    public Session begin(String player, Proverb.Difficulty difficulty, List<Proverb> catalog) {
+        String name = player + "/" + (difficulty == null ? "RANDOM" : difficulty.name());
+        return new Session(decks.computeIfAbsent(name, key -> new Deck(key, changes)), catalog(catalog), difficulty);
+    }
+
+    /**
+     * Returns the deck with the given name ({@code player/DIFFICULTY}), or null.
+     */
+    public Deck getDeck(String name) {
+        return decks.get(name);
+    }
+
+    /**
+     * Writes every deck to the card file, replacing it atomically, unless
+     * nothing changed since the last save.
+     */
+    public synchronized void save() throws IOException {
+        long current = changes.get();
+        if (current == savedChanges && Files.exists(file)) {
+            return;
+        }
+        String[] names;
+        synchronized (texts) {
+            names = texts.toArray(new String[0]);
+        }
+        List<Deck> snapshot = new ArrayList<>(decks.values());
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeShort(0);
+                out.writeLong(System.currentTimeMillis());
+                out.writeInt(names.length);
+                out.writeInt(snapshot.size());
+                for (String text : names) {
+                    byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+                    out.writeShort(encoded.length);
+                    out.write(encoded);
+                }
+                for (Deck deck : snapshot) {
+                    // Cards added after the text table was copied would point past it
+                    deck.write(out, names.length);
+                }
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            savedChanges = current;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Stops the periodic save and saves one last time.
+     */
+    @Override
+    public void close() throws IOException {
+        saver.shutdownNow();
+        try {
+            saver.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        save();
+    }
+
+    private void load() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a card file: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported card file version " + version);
+            }
+            in.readShort();
+            in.readLong();
+            int textCount = in.readInt();
+            int deckCount = in.readInt();
+            for (int i = 0; i < textCount; i++) {
+                id(readString(in));
+            }
+            for (int i = 0; i < deckCount; i++) {
+                String name = readString(in);
+                Deck deck = new Deck(name, changes);
+                int cards = in.readInt();
+                for (int card = 0; card < cards; card++) {
+                    deck.add(in.readInt(), in.readInt(), in.readUnsignedShort(), in.readUnsignedByte(), in.readUnsignedByte());
+                }
+                decks.put(name, deck);
+            }
+        }
+    }
+
+    private void saveQuietly() {
+        try {
+            save();
+        } catch (IOException e) {
+            System.err.println("Could not save spaced repetition cards: " + e.getMessage());
+        }
+    }
+
+    private Catalog catalog(List<Proverb> source) {
+        Catalog current = catalog;
+        if (current != null && current.source == source) {
+            return current;
+        }
+        int[] proverbIds = new int[source.size()];
+        int[] counts = new int[Proverb.Difficulty.values().length + 1];
+        int maxId = -1;
+        for (int i = 0; i < proverbIds.length; i++) {
+            Proverb proverb = source.get(i);
+            proverbIds[i] = id(proverb.getText());
+            maxId = Math.max(maxId, proverbIds[i]);
+            counts[proverb.getDifficulty().ordinal()]++;
+        }
+        counts[counts.length - 1] = proverbIds.length;
+        Proverb[] byId = new Proverb[maxId + 1];
+        int[][] order = new int[counts.length][];
+        for (int i = 0; i < counts.length; i++) {
+            order[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int i = 0; i < proverbIds.length; i++) {
+            Proverb proverb = source.get(i);
+            if (byId[proverbIds[i]] == null) {
+                byId[proverbIds[i]] = proverb;
+            }
+            int level = proverb.getDifficulty().ordinal();
+            order[level][counts[level]++] = proverbIds[i];
+            order[counts.length - 1][counts[counts.length - 1]++] = proverbIds[i];
+        }
+        current = new Catalog(source, byId, order);
+        catalog = current;
+        return current;
+    }
+
+    private int id(String text) {
+        Integer id = ids.get(text);
+        if (id != null) {
+            return id;
+        }
+        synchronized (texts) {
+            return ids.computeIfAbsent(text, key -> {
+                texts.add(key);
+                return texts.size() - 1;
+            });
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] encoded = new byte[in.readUnsignedShort()];
+        in.readFully(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    private static int minutes(long millis) {
+        return (int) TimeUnit.MILLISECONDS.toMinutes(millis);
+    }
+}
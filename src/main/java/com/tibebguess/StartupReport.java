@@ -0,0 +1,107 @@
+package com.tibebguess;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StartupReport
+ *
+ * Records how long after process start the application reaches each startup
+ * milestone and prints one summary line once all of them have happened:
+ * <pre>
+ * startup: fx-start=310ms start-screen=355ms first-frame=402ms font=520ms logo=380ms proverbs=340ms
+ * </pre>
+ * When {@code -Dtibeb.startupReport=<file>} is set the same line is appended
+ * to that file, prefixed with the wall-clock time, so cold starts can be
+ * tracked across builds and machines. The first frame is taken as the first
+ * scene pulse after the stage is shown.
+ */
+public final class StartupReport {
+    /** System property naming a file the summary line is appended to. */
+    public static final String REPORT_FILE_PROPERTY = "tibeb.startupReport";
+
+    public static final String FX_START = "fx-start";
+    public static final String START_SCREEN = "start-screen";
+    public static final String FIRST_FRAME = "first-frame";
+    public static final String FONT = "font";
+    public static final String LOGO = "logo";
+    public static final String PROVERBS = "proverbs";
+
+    private static final List<String> MILESTONES = Arrays.asList(FX_START, START_SCREEN, FIRST_FRAME, FONT, LOGO, PROVERBS);
+    private static final long PROCESS_START_MILLIS = ProcessHandle.current().info().startInstant()
+        .map(Instant::toEpochMilli)
+        .orElse(System.currentTimeMillis());
+
+    private static final Map<String, Long> reached = new LinkedHashMap<>();
+    private static boolean reported;
+    private static Runnable onReported;
+
+    private StartupReport() {
+    }
+
+    /**
+     * Records a milestone the first time it is reached. Safe to call from any
+     * thread; later calls for the same milestone are ignored.
+     */
+    public static void mark(String milestone) {
+        long elapsed = System.currentTimeMillis() - PROCESS_START_MILLIS;
+        String line;
+        synchronized (reached) {
+            if (reached.putIfAbsent(milestone, elapsed) != null || reported || !reached.keySet().containsAll(MILESTONES)) {
+                return;
+            }
+            reported = true;
+            StringBuilder summary = new StringBuilder("startup:");
+            for (String name : MILESTONES) {
+                summary.append(' ').append(name).append('=').append(reached.get(name)).append("ms");
+            }
+            line = summary.toString();
+        }
+        System.out.println(line);
+        write(line);
+        Runnable action;
+        synchronized (reached) {
+            action = onReported;
+        }
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs {@code action} once every milestone has been reached (immediately
+     * if that already happened), on the thread that reached the last one.
+     */
+    public static void whenReported(Runnable action) {
+        synchronized (reached) {
+            if (!reported) {
+                onReported = action;
+                return;
+            }
+        }
+        action.run();
+    }
+
+    private static void write(String line) {
+        String file = System.getProperty(REPORT_FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return;
+        }
+        Path path = Paths.get(file);
+        try {
+            Files.write(path, (Instant.now() + " " + line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Could not write startup report to " + path + ": " + e.getMessage());
+        }
+    }
+}
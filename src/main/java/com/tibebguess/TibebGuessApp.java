@@ -1,10 +1,18 @@
 package com.tibebguess;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Main Application Class
@@ -17,25 +25,97 @@ public class TibebGuessApp extends Application {
     private static final int WINDOW_WIDTH = 800;
     private static final int WINDOW_HEIGHT = 600;
     
+    /** System property pointing at a binary proverb pack to use instead of the bundled catalog. */
+    public static final String PROVERB_PACK_PROPERTY = "tibeb.proverbPack";
+    
+    /** Exit as soon as the startup report is complete (used to time cold starts). */
+    public static final String EXIT_AFTER_STARTUP_PROPERTY = "tibeb.exitAfterStartup";
+    
+    /** Start a game automatically and exit shortly after (used to train the AppCDS archive). */
+    public static final String TRAINING_RUN_PROPERTY = "tibeb.trainingRun";
+    
+    /** Let an {@link AdaptiveDifficulty} engine pick each round's proverb and length. */
+    public static final String ADAPTIVE_PROPERTY = "tibeb.adaptive";
+    
+    /** Play learning mode: each player's due proverbs first ({@link SpacedRepetition}). */
+    public static final String LEARNING_MODE_PROPERTY = "tibeb.learningMode";
+    
+    /** Seed for the games of this run, so they can be played again exactly. */
+    public static final String SEED_PROPERTY = "tibeb.seed";
+    
+    private static final long TRAINING_RUN_MILLIS = 3000;
+    
+    private volatile ProverbWatcher watcher;
+    private volatile GameHistory history;
+    private volatile ProverbStats stats;
+    private volatile SpacedRepetition cards;
+    private volatile GameEventLog eventLog;
+    private volatile SavedGameStore saves;
+    private volatile SavedGame savedGame;
+    private volatile AbstractGameManager gameManager;
+    // Both set on the FX thread
+    private boolean proverbsLoaded;
+    private boolean resumeOffered;
+    
+    // Font, logo and proverbs load in parallel while the first frame is shown
+    private final ExecutorService startupLoader = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "startup-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
     @Override
     public void start(Stage primaryStage) {
+        StartupReport.mark(StartupReport.FX_START);
         try {
             primaryStage.setTitle("Tibeb Guess - Proverb Game");
             
-            // Initialize GameController
-            GameController controller = new GameController(primaryStage);
+            // Initialize GameController (font and logo load in the background)
+            GameController controller = new GameController(primaryStage, startupLoader);
+            StartupReport.mark(StartupReport.START_SCREEN);
             
             // Initialize GameManager via abstraction (polymorphism)
             AbstractGameManager gameManager = new GameManager(controller);
+            Long seed = Long.getLong(SEED_PROPERTY);
+            if (seed != null) {
+                gameManager.setSeed(seed);
+            }
             controller.setGameManager(gameManager);
+            this.gameManager = gameManager;
             
-            // Load proverbs
-            List<Proverb> proverbs = loadProverbs();
-            gameManager.initializeProverbs(proverbs);
+            // Load proverbs in the background; START GAME is enabled once they are in
+            CompletableFuture.supplyAsync(() -> loadInitialProverbs(controller, gameManager), startupLoader)
+                .thenAccept(proverbs -> Platform.runLater(() -> {
+                    gameManager.initializeProverbs(proverbs);
+                    if (Boolean.getBoolean(ADAPTIVE_PROPERTY)) {
+                        gameManager.setAdaptiveDifficulty(new AdaptiveDifficulty(proverbs, gameManager.getRules(), new Random()));
+                    }
+                    controller.setProverbsLoaded();
+                    proverbsLoaded = true;
+                    offerResume(controller);
+                    StartupReport.mark(StartupReport.PROVERBS);
+                    if (Boolean.getBoolean(TRAINING_RUN_PROPERTY)) {
+                        // Load the game screen, image and timer classes too, then quit
+                        controller.startGame();
+                        GameScheduler.shared().schedule(Platform::exit, TRAINING_RUN_MILLIS);
+                    }
+                }));
+            CompletableFuture.runAsync(() -> openPlayerData(gameManager), startupLoader)
+                .thenRun(() -> Platform.runLater(() -> offerResume(controller)));
+            if (Boolean.getBoolean(EXIT_AFTER_STARTUP_PROPERTY)) {
+                StartupReport.whenReported(Platform::exit);
+            }
             
-            // Create scene
+            // Create scene (the controller's root already carries styles.css)
             Scene scene = new Scene(controller.getRoot(), WINDOW_WIDTH, WINDOW_HEIGHT);
-            scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
+            scene.addPostLayoutPulseListener(new Runnable() {
+                @Override
+                public void run() {
+                    StartupReport.mark(StartupReport.FIRST_FRAME);
+                    Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+                }
+            });
+            GameMetrics.instrumentPulses(scene);
             
             primaryStage.setScene(scene);
             primaryStage.setResizable(true);
@@ -49,14 +129,154 @@ public class TibebGuessApp extends Application {
         }
     }
     
+    private List<Proverb> loadInitialProverbs(GameController controller, AbstractGameManager gameManager) {
+        try {
+            List<Proverb> proverbs = startHotReload(controller, gameManager);
+            if (!proverbs.isEmpty()) {
+                return proverbs;
+            }
+        } catch (IOException e) {
+            System.err.println("Could not start hot reload: " + e.getMessage());
+        }
+        return loadProverbs();
+    }
+    
+    /**
+     * Opens the finished-game history, the per-proverb statistics, the saved
+     * game, in learning mode the player's cards, and the event log if one is
+     * configured; the game still runs if any of them cannot be opened.
+     */
+    private void openPlayerData(AbstractGameManager gameManager) {
+        try {
+            history = GameHistory.open(GameHistory.defaultDirectory());
+            gameManager.setGameHistory(history);
+        } catch (IOException e) {
+            System.err.println("Could not open game history: " + e.getMessage());
+        }
+        try {
+            stats = ProverbStats.open(GameHistory.defaultDirectory());
+            gameManager.setProverbStats(stats);
+        } catch (IOException e) {
+            System.err.println("Could not open proverb statistics: " + e.getMessage());
+        }
+        try {
+            SavedGameStore saves = SavedGameStore.open(GameHistory.defaultDirectory());
+            savedGame = saves.load();
+            this.saves = saves;
+            gameManager.setSavedGameStore(saves);
+        } catch (IOException e) {
+            System.err.println("Could not open saved game: " + e.getMessage());
+        }
+        if (Boolean.getBoolean(LEARNING_MODE_PROPERTY)) {
+            try {
+                cards = SpacedRepetition.open(GameHistory.defaultDirectory());
+                gameManager.setSpacedRepetition(cards, System.getProperty("user.name", "player"));
+            } catch (IOException e) {
+                System.err.println("Could not open spaced repetition cards: " + e.getMessage());
+            }
+        }
+        String events = System.getProperty(GameEventLog.FILE_PROPERTY);
+        if (events != null && !events.isBlank()) {
+            try {
+                eventLog = GameEventLog.open(Paths.get(events));
+                gameManager.setEventLog(eventLog);
+            } catch (IOException e) {
+                System.err.println("Could not open game event log: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Starts watching an external proverbs file and image directory when they
+     * are configured (-Dtibeb.proverbsFile, -Dtibeb.imageDir).
+     * @return the proverbs from the external file, or an empty list
+     */
+    private List<Proverb> startHotReload(GameController controller, AbstractGameManager gameManager) throws IOException {
+        String proverbsFile = System.getProperty(ProverbWatcher.PROVERBS_FILE_PROPERTY);
+        String imageDir = System.getProperty(AssetBundle.IMAGE_DIR_PROPERTY);
+        if ((proverbsFile == null || proverbsFile.isBlank()) && (imageDir == null || imageDir.isBlank())) {
+            return Collections.emptyList();
+        }
+        
+        watcher = new ProverbWatcher(
+            proverbsFile == null || proverbsFile.isBlank() ? null : Paths.get(proverbsFile),
+            imageDir == null || imageDir.isBlank() ? null : Paths.get(imageDir),
+            new ProverbWatcher.Listener() {
+                @Override
+                public void proverbsChanged(List<Proverb> proverbs) {
+                    if (!proverbs.isEmpty()) {
+                        gameManager.updateProverbs(proverbs);
+                    }
+                }
+                
+                @Override
+                public void imageChanged(String resourcePath) {
+                    controller.invalidateImage(resourcePath);
+                }
+            });
+        List<Proverb> proverbs = watcher.loadInitial();
+        watcher.start();
+        return proverbs;
+    }
+    
+    /**
+     * Offers the saved game, if any, once the proverbs are in and the saved
+     * game has been read; called on the FX thread.
+     */
+    private void offerResume(GameController controller) {
+        if (!proverbsLoaded || saves == null || resumeOffered) {
+            return;
+        }
+        resumeOffered = true;
+        SavedGame saved = savedGame;
+        if (saved != null && !Boolean.getBoolean(TRAINING_RUN_PROPERTY)) {
+            controller.offerResume(saved);
+        }
+    }
+    
+    @Override
+    public void stop() throws Exception {
+        if (saves != null) {
+            gameManager.saveProgress();
+            saves.close();
+        }
+        if (watcher != null) {
+            watcher.close();
+        }
+        if (history != null) {
+            history.close();
+        }
+        if (stats != null) {
+            stats.close();
+        }
+        if (cards != null) {
+            cards.close();
+        }
+        if (eventLog != null) {
+            eventLog.close();
+        }
+        startupLoader.shutdownNow();
+    }
+    
     /**
      * Loads proverbs from resources
-     * Tries to load from a file first, falls back to default proverbs
+     * Uses a configured proverb pack first, then the build-time catalog,
+     * then the proverbs file, then defaults
      * @return List of Proverb objects
      */
     private List<Proverb> loadProverbs() {
-        // Try to load from file first
-        List<Proverb> proverbs = ProverbLoader.loadFromFile("/proverbs.txt");
+        String pack = System.getProperty(PROVERB_PACK_PROPERTY);
+        if (pack != null && !pack.isBlank()) {
+            return ProverbLoader.loadFromPack(Paths.get(pack));
+        }
+        
+        List<Proverb> proverbs = ProverbCatalog.get().getProverbs();
+        if (!proverbs.isEmpty()) {
+            return proverbs;
+        }
+        
+        // Fall back to parsing the file when the catalog was not generated
+        proverbs = ProverbLoader.loadFromFile("/proverbs.txt");
         
         // If file loading failed or returned empty, use defaults
         if (proverbs == null || proverbs.isEmpty()) {
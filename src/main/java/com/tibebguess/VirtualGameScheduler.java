@@ -0,0 +1,117 @@
+package com.tibebguess;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VirtualGameScheduler
+ *
+ * {@link GameScheduler} driven by a virtual clock. Time only moves when
+ * {@link #advanceBy(long)} or {@link #runUntilIdle()} is called, and due tasks
+ * run on the calling thread in deadline order, so games can be exercised
+ * without real waiting. Not thread-safe: drive it from a single thread.
+ */
+public class VirtualGameScheduler implements GameScheduler {
+
+    private final class VirtualTask implements Task, Comparable<VirtualTask> {
+        private final Runnable action;
+        private final long periodNanos;
+        private final long sequence;
+        private long dueNanos;
+        private boolean cancelled;
+
+        VirtualTask(Runnable action, long dueNanos, long periodNanos) {
+            this.action = action;
+            this.dueNanos = dueNanos;
+            this.periodNanos = periodNanos;
+            this.sequence = nextSequence++;
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                queue.remove(this);
+            }
+        }
+
+        @Override
+        public int compareTo(VirtualTask other) {
+            int byDue = Long.compare(dueNanos, other.dueNanos);
+            return byDue != 0 ? byDue : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final PriorityQueue<VirtualTask> queue = new PriorityQueue<>();
+    private long nowNanos;
+    private long nextSequence;
+
+    @Override
+    public Task schedule(Runnable task, long delayMillis) {
+        return enqueue(new VirtualTask(task, nowNanos + TimeUnit.MILLISECONDS.toNanos(delayMillis), 0));
+    }
+
+    @Override
+    public Task scheduleAtFixedRate(Runnable task, long initialDelayMillis, long periodMillis) {
+        return enqueue(new VirtualTask(task, nowNanos + TimeUnit.MILLISECONDS.toNanos(initialDelayMillis),
+            TimeUnit.MILLISECONDS.toNanos(periodMillis)));
+    }
+
+    private VirtualTask enqueue(VirtualTask task) {
+        queue.add(task);
+        return task;
+    }
+
+    @Override
+    public long nanoTime() {
+        return nowNanos;
+    }
+
+    /**
+     * Moves the virtual clock forward, running every task that falls due.
+     */
+    public void advanceBy(long millis) {
+        long target = nowNanos + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (!queue.isEmpty() && queue.peek().dueNanos <= target) {
+            runNext();
+        }
+        nowNanos = target;
+    }
+
+    /**
+     * Runs queued tasks, jumping the clock to each deadline, until nothing is
+     * left or {@code maxTasks} tasks have run. Returns the number of tasks run.
+     */
+    public int runUntilIdle(int maxTasks) {
+        int ran = 0;
+        while (!queue.isEmpty() && ran < maxTasks) {
+            runNext();
+            ran++;
+        }
+        return ran;
+    }
+
+    /**
+     * Runs queued tasks until the queue is empty.
+     */
+    public int runUntilIdle() {
+        return runUntilIdle(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Number of tasks waiting to run.
+     */
+    public int pendingTasks() {
+        return queue.size();
+    }
+
+    private void runNext() {
+        VirtualTask task = queue.poll();
+        nowNanos = Math.max(nowNanos, task.dueNanos);
+        if (task.periodNanos > 0) {
+            task.dueNanos += task.periodNanos;
+            queue.add(task);
+        }
+        task.action.run();
+    }
+}
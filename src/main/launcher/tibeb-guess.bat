@@ -0,0 +1,10 @@
+@echo off
+rem Starts Tibeb Guess from the runtime image built by: mvn -P runtime-image package
+rem Uses the AppCDS archive recorded at build time when it is present.
+
+set HOME_DIR=%~dp0..
+set CDS=
+if exist "%HOME_DIR%\app\tibeb-guess.jsa" set CDS=-XX:SharedArchiveFile="%HOME_DIR%\app\tibeb-guess.jsa"
+
+cd /d "%HOME_DIR%"
+"%HOME_DIR%\runtime\bin\java" %CDS% -Dtibeb.assetBundle=app\assets.bundle %TIBEB_OPTS% -cp "app\*" com.tibebguess.TibebGuessApp %*
@@ -0,0 +1,14 @@
+#!/bin/sh
+# Starts Tibeb Guess from the runtime image built by: mvn -P runtime-image package
+# Uses the AppCDS archive recorded at build time when it is present.
+
+HOME_DIR=$(cd "$(dirname "$0")/.." && pwd)
+CDS=""
+if [ -f "$HOME_DIR/app/tibeb-guess.jsa" ]; then
+    CDS="-XX:SharedArchiveFile=$HOME_DIR/app/tibeb-guess.jsa"
+fi
+
+cd "$HOME_DIR" || exit 1
+exec "$HOME_DIR/runtime/bin/java" $CDS \
+    -Dtibeb.assetBundle=app/assets.bundle \
+    $TIBEB_OPTS -cp "app/*" com.tibebguess.TibebGuessApp "$@"
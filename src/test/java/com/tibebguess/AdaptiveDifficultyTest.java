@@ -0,0 +1,123 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveDifficultyTest {
+
+    /** Always draws the lowest candidate, so every retry hits the same proverb. */
+    private static final class FirstCandidate extends Random {
+        @Override
+        public int nextInt(int bound) {
+            return 0;
+        }
+    }
+
+    @Test
+    void picksEveryProverbOnceThenStops() {
+        List<Proverb> catalog = catalog(2000, 2000, 1000);
+        AdaptiveDifficulty adaptive = new AdaptiveDifficulty(catalog, GameRules.STANDARD, new Random(3));
+        AdaptiveDifficulty.Player player = adaptive.newPlayer(Proverb.Difficulty.MEDIUM);
+
+        Set<String> seen = new HashSet<>();
+        for (int round = 0; round < catalog.size(); round++) {
+            AdaptiveDifficulty.Pick pick = adaptive.next(player);
+            assertNotNull(pick);
+            assertTrue(seen.add(pick.getProverb().getText()), "picked twice: " + pick.getProverb().getText());
+            assertTrue(pick.getRoundSeconds() >= 15 && pick.getRoundSeconds() <= 30);
+            adaptive.recordAnswer(player, round % 3 != 0, 0.5);
+        }
+        assertNull(adaptive.next(player));
+    }
+
+    @Test
+    void fallsBackToTheNearestUnseenProverb() {
+        List<Proverb> catalog = catalog(300, 0, 1);
+        AdaptiveDifficulty adaptive = new AdaptiveDifficulty(catalog, GameRules.STANDARD, new FirstCandidate());
+        AdaptiveDifficulty.Player player = adaptive.newPlayer(Proverb.Difficulty.EASY);
+
+        // After the first pick every random try lands on a seen proverb
+        for (int round = 0; round < 300; round++) {
+            assertEquals(Proverb.Difficulty.EASY, adaptive.next(player).getProverb().getDifficulty(), "round " + round);
+        }
+        assertEquals(Proverb.Difficulty.HARD, adaptive.next(player).getProverb().getDifficulty());
+        assertNull(adaptive.next(player));
+    }
+
+    @Test
+    void picksNearTheSkillOfThePlayer() {
+        List<Proverb> catalog = catalog(100, 0, 100);
+        AdaptiveDifficulty adaptive = new AdaptiveDifficulty(catalog, GameRules.STANDARD, new Random(5));
+
+        assertEquals(Proverb.Difficulty.EASY, firstPick(adaptive, Proverb.Difficulty.EASY).getDifficulty());
+        assertEquals(Proverb.Difficulty.HARD, firstPick(adaptive, Proverb.Difficulty.HARD).getDifficulty());
+    }
+
+    @Test
+    void liveResultsMoveProverbsBetweenBins() {
+        List<Proverb> catalog = catalog(100, 0, 100);
+        AdaptiveDifficulty adaptive = new AdaptiveDifficulty(catalog, GameRules.STANDARD, new Random(11));
+
+        // Labelled easy proverbs are always missed late, labelled hard ones solved at once
+        for (int game = 0; game < 20; game++) {
+            AdaptiveDifficulty.Player player = adaptive.newPlayer(Proverb.Difficulty.MEDIUM);
+            Set<Proverb> picked = new HashSet<>();
+            for (AdaptiveDifficulty.Pick pick; (pick = adaptive.next(player)) != null; ) {
+                assertTrue(picked.add(pick.getProverb()));
+                boolean hard = pick.getProverb().getDifficulty() == Proverb.Difficulty.HARD;
+                adaptive.recordAnswer(player, hard, hard ? 0 : 1);
+            }
+            assertEquals(catalog.size(), picked.size());
+        }
+
+        for (int i = 0; i < catalog.size(); i++) {
+            boolean hard = catalog.get(i).getDifficulty() == Proverb.Difficulty.HARD;
+            assertTrue(hard ? adaptive.getDifficulty(i) < 0.2 : adaptive.getDifficulty(i) > 0.8, "proverb " + i);
+        }
+        assertEquals(Proverb.Difficulty.HARD, firstPick(adaptive, Proverb.Difficulty.EASY).getDifficulty());
+        assertEquals(Proverb.Difficulty.EASY, firstPick(adaptive, Proverb.Difficulty.HARD).getDifficulty());
+    }
+
+    @Test
+    void skillFollowsAnswers() {
+        AdaptiveDifficulty adaptive = new AdaptiveDifficulty(catalog(50, 50, 50), GameRules.STANDARD, new Random(1));
+        AdaptiveDifficulty.Player strong = adaptive.newPlayer(Proverb.Difficulty.MEDIUM);
+        AdaptiveDifficulty.Player weak = adaptive.newPlayer(Proverb.Difficulty.MEDIUM);
+        for (int round = 0; round < 10; round++) {
+            adaptive.next(strong);
+            adaptive.recordAnswer(strong, true, 0.2);
+            adaptive.next(weak);
+            adaptive.recordAnswer(weak, false, 1);
+        }
+        assertTrue(strong.getSkill() > 0.5);
+        assertTrue(weak.getSkill() < 0.5);
+    }
+
+    private static Proverb firstPick(AdaptiveDifficulty adaptive, Proverb.Difficulty level) {
+        return adaptive.next(adaptive.newPlayer(level)).getProverb();
+    }
+
+    private static List<Proverb> catalog(int easy, int medium, int hard) {
+        List<Proverb> catalog = new ArrayList<>();
+        for (int i = 0; i < easy; i++) {
+            catalog.add(new Proverb("easy " + i, "", Proverb.Difficulty.EASY));
+        }
+        for (int i = 0; i < medium; i++) {
+            catalog.add(new Proverb("medium " + i, "", Proverb.Difficulty.MEDIUM));
+        }
+        for (int i = 0; i < hard; i++) {
+            catalog.add(new Proverb("hard " + i, "", Proverb.Difficulty.HARD));
+        }
+        return catalog;
+    }
+}
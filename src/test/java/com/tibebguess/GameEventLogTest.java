@@ -0,0 +1,270 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameEventLogTest {
+    private static final List<Proverb> PROVERBS = Arrays.asList(
+        new Proverb("ሰው ለሰው መድኃኒቱ ነው", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("ቀስ በቀስ እንቁላል በእግሩ ይሄዳል", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("ድር ቢያብር አንበሳ ያስር", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("የማያውቁት አገር አይናፍቅም", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("ካልጠፉ ቅል አይሰበርም", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("ሞኝ ና ወርቅ አንድ ቀን ይለያል", "", Proverb.Difficulty.MEDIUM));
+    private static final long[] SEEDS = {1, 2, 3, 42, -7};
+
+    /** Times out every third round, reveals the others after a varying delay and misses every fourth answer. */
+    private static final class Scripted implements HeadlessGameManager.Player {
+        int rounds;
+
+        @Override
+        public long revealDelayMillis(Proverb proverb, int roundTimeSeconds) {
+            int round = ++rounds;
+            return round % 3 == 0 ? -1 : 137L * round % (roundTimeSeconds * 1000L);
+        }
+
+        @Override
+        public boolean answer(Proverb proverb) {
+            return rounds % 4 != 1;
+        }
+    }
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordedGamesReadBackWithTheirResults() throws IOException {
+        Path file = dir.resolve("events.log");
+        List<long[]> results = record(file);
+
+        List<GameEventLog.Game> games = GameEventLog.read(file);
+        assertEquals(SEEDS.length, games.size());
+        for (int i = 0; i < SEEDS.length; i++) {
+            GameEventLog.Game game = games.get(i);
+            assertEquals(SEEDS[i], game.getSeed());
+            assertEquals(Proverb.Difficulty.MEDIUM, game.getDifficulty());
+            assertTrue(game.isReplayable());
+            assertEquals(GameRules.STANDARD.getInitialHearts(), game.getInitialHearts());
+            assertEquals(PROVERBS.size(), game.getTotalRounds());
+            assertEquals(GameEventLog.ROUND_STARTED, game.getEvents().get(0).getType());
+            GameEventLog.Event result = game.getResult();
+            for (int field = 0; field < 4; field++) {
+                assertEquals(results.get(i)[field], result.value(field));
+            }
+        }
+    }
+
+    @Test
+    void replayReproducesTheRecordedEvents() throws IOException {
+        Path recorded = dir.resolve("recorded.log");
+        Path replayed = dir.resolve("replayed.log");
+        record(recorded);
+        List<GameEventLog.Game> games = GameEventLog.read(recorded);
+
+        GameReplay replay = new GameReplay();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), replay);
+        manager.initializeProverbs(PROVERBS);
+        try (GameEventLog log = GameEventLog.open(replayed)) {
+            manager.setEventLog(log);
+            for (GameEventLog.Game game : games) {
+                replay.load(game);
+                manager.setDifficulty(game.getDifficulty());
+                manager.play(game.getSeed());
+                assertNull(replay.compare(manager, game.getResult()));
+            }
+        }
+
+        List<GameEventLog.Game> again = GameEventLog.read(replayed);
+        assertEquals(games.size(), again.size());
+        for (int i = 0; i < games.size(); i++) {
+            assertEquals(describe(games.get(i)), describe(again.get(i)), "game " + i);
+        }
+    }
+
+    @Test
+    void replayNoticesDifferentProverbs() throws IOException {
+        Path file = dir.resolve("events.log");
+        record(file);
+        GameEventLog.Game game = GameEventLog.read(file).get(0);
+
+        List<Proverb> changed = new ArrayList<>();
+        for (Proverb proverb : PROVERBS) {
+            changed.add(new Proverb(proverb.getText() + "!", "", proverb.getDifficulty()));
+        }
+        GameReplay replay = new GameReplay();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), replay);
+        manager.initializeProverbs(changed);
+        replay.load(game);
+        manager.setDifficulty(game.getDifficulty());
+        manager.play(game.getSeed());
+        assertTrue(replay.compare(manager, game.getResult()).startsWith("different proverb in round 1"));
+    }
+
+    @Test
+    void stoppedGamesHaveNoResult() throws IOException {
+        Path file = dir.resolve("events.log");
+        VirtualGameScheduler clock = new VirtualGameScheduler();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, clock, new Scripted());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+        try (GameEventLog log = GameEventLog.open(file)) {
+            manager.setEventLog(log);
+            manager.startGame(5);
+            clock.advanceBy(3000);
+            manager.stopGame();
+        }
+
+        List<GameEventLog.Game> games = GameEventLog.read(file);
+        assertEquals(1, games.size());
+        assertNull(games.get(0).getResult());
+        List<GameEventLog.Event> events = games.get(0).getEvents();
+        assertEquals(GameEventLog.STOPPED, events.get(events.size() - 1).getType());
+    }
+
+    @Test
+    void tornLastRecordLeavesTheGameStopped() throws IOException {
+        Path file = dir.resolve("events.log");
+        record(file);
+        long length = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length - 5);
+        }
+        List<GameEventLog.Game> games = GameEventLog.read(file);
+        assertEquals(SEEDS.length, games.size());
+        assertNotNull(games.get(SEEDS.length - 2).getResult());
+        assertStoppedAfterRound(games.get(SEEDS.length - 1));
+    }
+
+    @Test
+    void gamesCutShortByACrashReadBackAsStopped() throws IOException {
+        Path file = dir.resolve("events.log");
+        VirtualGameScheduler clock = new VirtualGameScheduler();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, clock, new Scripted());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+        GameEventLog log = GameEventLog.open(file);
+        manager.setEventLog(log);
+        manager.startGame(5);
+        clock.advanceBy(30_000);
+        log.close(); // the process dies here; nothing more is written
+
+        List<GameEventLog.Game> games = GameEventLog.read(file);
+        assertEquals(1, games.size());
+        assertEquals(5, games.get(0).getSeed());
+        assertStoppedAfterRound(games.get(0));
+        long rounds = games.get(0).getEvents().stream().filter(event -> event.getType() == GameEventLog.ROUND_STARTED).count();
+        assertTrue(rounds >= 2, "rounds on disk: " + rounds);
+    }
+
+    @Test
+    void interleavedGamesReadBackSeparately() throws IOException {
+        Path file = dir.resolve("events.log");
+        VirtualGameScheduler clock = new VirtualGameScheduler();
+        List<HeadlessGameManager> managers = new ArrayList<>();
+        try (GameEventLog log = GameEventLog.open(file)) {
+            for (long seed : new long[] {1, 2}) {
+                HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, clock, new Scripted());
+                manager.initializeProverbs(PROVERBS);
+                manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+                manager.setEventLog(log);
+                manager.startGame(seed);
+                managers.add(manager);
+            }
+            clock.advanceBy(10 * 60_000);
+        }
+
+        List<GameEventLog.Game> games = GameEventLog.read(file);
+        assertEquals(2, games.size());
+        for (int i = 0; i < 2; i++) {
+            assertTrue(managers.get(i).isFinished());
+            assertEquals(i + 1, games.get(i).getSeed());
+            assertEquals(managers.get(i).getScore(), games.get(i).getResult().value(0));
+            assertEquals(GameEventLog.ROUND_STARTED, games.get(i).getEvents().get(0).getType());
+        }
+    }
+
+    @Test
+    void impossibleRecordLengthsEndTheLog() throws IOException {
+        for (int length : new int[] {Integer.MAX_VALUE, -8, 1 << 20}) {
+            Path file = dir.resolve("events-" + length + ".log");
+            record(file);
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file, StandardOpenOption.APPEND))) {
+                out.writeInt(length);
+                out.writeInt(0);
+                out.write(new byte[64]);
+            }
+            List<GameEventLog.Game> games = GameEventLog.read(file);
+            assertEquals(SEEDS.length, games.size());
+            assertNotNull(games.get(SEEDS.length - 1).getResult());
+        }
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("events.log");
+        Files.write(file, new byte[] {'T', 'B', 'G', 'H', 0, 2, 0, 0});
+        assertThrows(IOException.class, () -> GameEventLog.read(file));
+        assertThrows(IOException.class, () -> GameEventLog.open(file));
+
+        Path older = dir.resolve("older.log");
+        Files.write(older, new byte[] {'T', 'B', 'E', 'L', 0, 1, 0, 0});
+        assertThrows(IOException.class, () -> GameEventLog.open(older));
+    }
+
+    private static void assertStoppedAfterRound(GameEventLog.Game game) {
+        assertNull(game.getResult());
+        List<GameEventLog.Event> events = game.getEvents();
+        assertEquals(GameEventLog.STOPPED, events.get(events.size() - 1).getType());
+        assertEquals(GameEventLog.ROUND_STARTED, events.get(events.size() - 2).getType());
+    }
+
+    // Plays every seed once and returns score, hearts, completed and total rounds of each
+    private static List<long[]> record(Path file) throws IOException {
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), new Scripted());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+        List<long[]> results = new ArrayList<>();
+        try (GameEventLog log = GameEventLog.open(file)) {
+            manager.setEventLog(log);
+            for (long seed : SEEDS) {
+                manager.play(seed);
+                assertTrue(manager.isFinished());
+                results.add(new long[] {manager.getScore(), manager.getHearts(),
+                    manager.getCompletedRounds(), manager.getTotalRounds()});
+            }
+        }
+        return results;
+    }
+
+    private static List<String> describe(GameEventLog.Game game) {
+        List<String> described = new ArrayList<>();
+        described.add(game.getSeed() + ":" + game.getDifficulty() + ":" + game.getInitialHearts() + ":" + game.getTotalRounds());
+        for (GameEventLog.Event event : game.getEvents()) {
+            StringBuilder line = new StringBuilder().append(event.getType()).append('@').append(event.getMillis());
+            int fields = event.getType() == GameEventLog.ROUND_STARTED || event.getType() == GameEventLog.ANSWERED ? 3
+                : event.getType() == GameEventLog.REVEALED ? 2
+                : event.getType() == GameEventLog.FINISHED ? 4 : 0;
+            for (int field = 0; field < fields; field++) {
+                line.append(':').append(event.value(field));
+            }
+            described.add(line.toString());
+        }
+        return described;
+    }
+}
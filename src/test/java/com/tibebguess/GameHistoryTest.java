@@ -0,0 +1,176 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameHistoryTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void leaderboardsSurviveReopening() throws Exception {
+        List<String> medium;
+        List<String> random;
+        try (GameHistory history = GameHistory.open(dir)) {
+            recordGames(history);
+            medium = describe(history.getLeaderboard(Proverb.Difficulty.MEDIUM));
+            random = describe(history.getLeaderboard(null));
+        }
+        assertEquals(GameHistory.LEADERBOARD_SIZE, medium.size());
+        assertEquals("1014:60:2:10/10", medium.get(0));
+        assertEquals("1011:60:1:10/10", medium.get(1)); // same score, fewer hearts
+        assertEquals("1010:55:1:10/10", medium.get(2));
+        assertEquals("1005:50:3:10/10", medium.get(3));
+        assertEquals("1009:50:1:10/10", medium.get(4));
+        assertEquals(1, random.size());
+
+        try (GameHistory reopened = GameHistory.open(dir)) {
+            assertEquals(medium, describe(reopened.getLeaderboard(Proverb.Difficulty.MEDIUM)));
+            assertEquals(random, describe(reopened.getLeaderboard(null)));
+            assertEquals(0, reopened.getLeaderboard(Proverb.Difficulty.HARD).size());
+        }
+    }
+
+    @Test
+    void leaderboardsAreRebuiltFromTheLogWithoutAnIndex() throws Exception {
+        List<String> medium;
+        try (GameHistory history = GameHistory.open(dir)) {
+            recordGames(history);
+            medium = describe(history.getLeaderboard(Proverb.Difficulty.MEDIUM));
+        }
+        Files.delete(dir.resolve("leaderboard.idx"));
+
+        try (GameHistory reopened = GameHistory.open(dir)) {
+            assertEquals(medium, describe(reopened.getLeaderboard(Proverb.Difficulty.MEDIUM)));
+        }
+    }
+
+    @Test
+    void tornLastRecordIsDropped() throws Exception {
+        try (GameHistory history = GameHistory.open(dir)) {
+            history.record(result(1, Proverb.Difficulty.EASY, 40, 1)).get();
+            history.record(result(2, Proverb.Difficulty.EASY, 90, 1)).get();
+        }
+        Files.delete(dir.resolve("leaderboard.idx"));
+        Path log = dir.resolve("history.log");
+        long length = Files.size(log);
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(length - 3);
+        }
+
+        try (GameHistory reopened = GameHistory.open(dir)) {
+            assertEquals(List.of("1:40:1:10/10"), describe(reopened.getLeaderboard(Proverb.Difficulty.EASY)));
+            reopened.record(result(3, Proverb.Difficulty.EASY, 70, 1)).get();
+            assertEquals(List.of("3:70:1:10/10", "1:40:1:10/10"),
+                describe(reopened.getLeaderboard(Proverb.Difficulty.EASY)));
+        }
+    }
+
+    @Test
+    void roundCountsAboveSixteenBitsSurvive() throws Exception {
+        byte[] outcomes = new byte[70_000];
+        Arrays.fill(outcomes, GameResult.ROUND_CORRECT);
+        try (GameHistory history = GameHistory.open(dir)) {
+            history.record(new GameResult(7, Proverb.Difficulty.HARD, 1_400_000, 3, 70_000, 100_000, outcomes)).get();
+        }
+        try (GameHistory reopened = GameHistory.open(dir)) {
+            assertEquals(List.of("7:1400000:3:70000/100000"), describe(reopened.getLeaderboard(Proverb.Difficulty.HARD)));
+        }
+        Files.delete(dir.resolve("leaderboard.idx"));
+        try (GameHistory rebuilt = GameHistory.open(dir)) {
+            assertEquals(List.of("7:1400000:3:70000/100000"), describe(rebuilt.getLeaderboard(Proverb.Difficulty.HARD)));
+        }
+    }
+
+    @Test
+    void versionOneLogsAreUpgraded() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(GameHistory.LOG_MAGIC);
+        out.writeShort(GameHistory.VERSION_U16_ROUNDS);
+        out.writeShort(0);
+        writeVersionOneRecord(out, 11, 1, 40, 2, 50_000, 60_000);
+        writeVersionOneRecord(out, 12, 1, 45, 1, 10, 10);
+        out.writeInt(99); // torn tail
+        Files.write(dir.resolve("history.log"), bytes.toByteArray());
+
+        try (GameHistory history = GameHistory.open(dir)) {
+            assertEquals(List.of("12:45:1:10/10", "11:40:2:50000/60000"),
+                describe(history.getLeaderboard(Proverb.Difficulty.MEDIUM)));
+            history.record(result(13, Proverb.Difficulty.MEDIUM, 42, 1)).get();
+        }
+        Files.delete(dir.resolve("leaderboard.idx"));
+        try (GameHistory reopened = GameHistory.open(dir)) {
+            assertEquals(List.of("12:45:1:10/10", "13:42:1:10/10", "11:40:2:50000/60000"),
+                describe(reopened.getLeaderboard(Proverb.Difficulty.MEDIUM)));
+        }
+        assertEquals(GameHistory.VERSION, ByteBuffer.wrap(Files.readAllBytes(dir.resolve("history.log"))).getShort(4));
+    }
+
+    @Test
+    void recordingAfterCloseFails() throws IOException {
+        GameHistory history = GameHistory.open(dir);
+        history.close();
+        CompletableFuture<Void> written = history.record(result(1, null, 10, 3));
+        assertThrows(ExecutionException.class, written::get);
+    }
+
+    // Medium games scoring 5..60, two of them tied on score with more hearts, and one random-mode game
+    private static void recordGames(GameHistory history) throws Exception {
+        List<CompletableFuture<Void>> written = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            int score = (i + 1) * 5;
+            written.add(history.record(result(1000 + i, Proverb.Difficulty.MEDIUM, score, 1)));
+        }
+        written.add(history.record(result(1005, Proverb.Difficulty.MEDIUM, 50, 3)));
+        written.add(history.record(result(1014, Proverb.Difficulty.MEDIUM, 60, 2)));
+        written.add(history.record(result(2000, null, 30, 0)));
+        for (CompletableFuture<Void> future : written) {
+            future.get();
+        }
+    }
+
+    private static void writeVersionOneRecord(DataOutputStream out, long finishedAt, int difficulty, int score,
+                                              int hearts, int completed, int total) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(GameHistory.PAYLOAD_FIXED_SIZE_U16_ROUNDS + 1);
+        payload.putLong(finishedAt).put((byte) difficulty).putInt(score).put((byte) hearts)
+            .putShort((short) completed).putShort((short) total).putShort((short) 1).put(GameResult.ROUND_CORRECT);
+        CRC32 crc = new CRC32();
+        crc.update(payload.array());
+        out.writeInt(payload.capacity());
+        out.writeInt((int) crc.getValue());
+        out.write(payload.array());
+    }
+
+    private static GameResult result(long finishedAt, Proverb.Difficulty difficulty, int score, int hearts) {
+        return new GameResult(finishedAt, difficulty, score, hearts, 10, 10,
+            new byte[] {GameResult.ROUND_CORRECT, 0, GameResult.ROUND_TIMED_OUT});
+    }
+
+    private static List<String> describe(List<GameResult> results) {
+        List<String> described = new ArrayList<>();
+        for (GameResult result : results) {
+            described.add(result.getFinishedAtMillis() + ":" + result.getScore() + ":" + result.getHearts()
+                + ":" + result.getCompletedRounds() + "/" + result.getTotalRounds());
+        }
+        return described;
+    }
+}
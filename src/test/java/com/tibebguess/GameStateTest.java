@@ -0,0 +1,214 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class GameStateTest {
+    private static final List<Proverb> PROVERBS = Arrays.asList(
+        new Proverb("ሰው ለሰው መድኃኒቱ ነው", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("ቀስ በቀስ እንቁላል በእግሩ ይሄዳል", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("ድር ቢያብር አንበሳ ያስር", "", Proverb.Difficulty.MEDIUM));
+    private static final int ROUND_MILLIS = 20_000; // MEDIUM under the standard rules
+    private static final int NEXT_ROUND_MILLIS = 1500;
+
+    /**
+     * Scheduler whose tasks cannot be cancelled, as if every cancel came too
+     * late and the callback was already running.
+     */
+    private static final class LateCancelScheduler extends VirtualGameScheduler {
+        @Override
+        public Task schedule(Runnable task, long delayMillis) {
+            super.schedule(task, delayMillis);
+            return () -> { };
+        }
+    }
+
+    /** Reveals the first round after one second and lets every later round time out. */
+    private static final class FirstRoundOnly implements HeadlessGameManager.Player {
+        int rounds;
+
+        @Override
+        public long revealDelayMillis(Proverb proverb, int roundTimeSeconds) {
+            return rounds++ == 0 ? 1000 : -1;
+        }
+
+        @Override
+        public boolean answer(Proverb proverb) {
+            return true;
+        }
+    }
+
+    /** Never reveals early and gets every answer right. */
+    private static final class WaitsForTimer implements HeadlessGameManager.Player {
+        @Override
+        public long revealDelayMillis(Proverb proverb, int roundTimeSeconds) {
+            return -1;
+        }
+
+        @Override
+        public boolean answer(Proverb proverb) {
+            return true;
+        }
+    }
+
+    @Test
+    void epochAdvancesWhenRoundsStartAndTheGameEnds() {
+        GameState idle = GameState.initial(3, 20);
+        GameState game = idle.newGame(PROVERBS, 3, 20);
+        GameState round = game.roundStarted(TimeUnit.SECONDS.toNanos(20), 20);
+        GameState revealed = round.revealed(12);
+        GameState answered = revealed.answered(15, 3, 12, GameResult.ROUND_CORRECT);
+        GameState finished = answered.advanced().ended(GameState.Phase.FINISHED, 12);
+
+        assertEquals(idle.getEpoch() + 1, game.getEpoch());
+        assertEquals(game.getEpoch() + 1, round.getEpoch());
+        assertEquals(round.getEpoch(), revealed.getEpoch());
+        assertEquals(round.getEpoch(), answered.getEpoch());
+        assertEquals(answered.getEpoch() + 1, finished.getEpoch());
+        assertEquals(1, finished.getCurrentIndex());
+        assertEquals(GameState.Phase.FINISHED, finished.getPhase());
+        assertEquals(1, finished.getOutcomes().length);
+    }
+
+    @Test
+    void pickedProverbReplacesTheRoundWithoutTouchingTheList() {
+        Proverb picked = new Proverb("የማያውቁት አገር አይናፍቅም", "", Proverb.Difficulty.MEDIUM);
+        GameState game = GameState.initial(3, 20).newGame(PROVERBS, 3, 20);
+        GameState round = game.withCurrentProverb(picked).roundStarted(TimeUnit.SECONDS.toNanos(20), 20);
+
+        assertSame(PROVERBS, round.getProverbs());
+        assertSame(picked, round.getCurrentProverb());
+        assertSame(picked, round.revealed(5).answered(15, 3, 5, GameResult.ROUND_CORRECT).getCurrentProverb());
+        assertSame(PROVERBS.get(1), round.advanced().getCurrentProverb());
+    }
+
+    @Test
+    void outcomesOfBranchedSnapshotsStayApart() {
+        GameState state = GameState.initial(3, 20).newGame(PROVERBS, 3, 20);
+        for (int i = 0; i < 40; i++) {
+            state = state.answered(0, 3, 0, GameResult.ROUND_CORRECT);
+        }
+        GameState timedOut = state.answered(0, 2, 0, GameResult.ROUND_TIMED_OUT);
+        GameState wrong = state.answered(0, 2, 0, (byte) 0);
+        GameState afterTimeout = timedOut.answered(0, 2, 0, GameResult.ROUND_CORRECT);
+
+        byte[] correct = new byte[40];
+        Arrays.fill(correct, GameResult.ROUND_CORRECT);
+        assertArrayEquals(correct, state.getOutcomes());
+        assertEquals(GameResult.ROUND_TIMED_OUT, timedOut.getOutcomes()[40]);
+        assertEquals(0, wrong.getOutcomes()[40]);
+        assertEquals(41, wrong.getOutcomes().length);
+        assertArrayEquals(new byte[] {GameResult.ROUND_TIMED_OUT, GameResult.ROUND_CORRECT},
+            Arrays.copyOfRange(afterTimeout.getOutcomes(), 40, 42));
+        assertArrayEquals(new byte[] {GameResult.ROUND_CORRECT},
+            state.resumed(0, 3, 0, new byte[] {GameResult.ROUND_CORRECT}).getOutcomes());
+    }
+
+    @Test
+    void secondsRemainingRoundUpWhileCounting() {
+        GameState round = GameState.initial(3, 20).newGame(PROVERBS, 3, 20)
+            .roundStarted(TimeUnit.SECONDS.toNanos(20), 20);
+
+        assertEquals(20, round.getSecondsRemaining(0));
+        assertEquals(20, round.getSecondsRemaining(1));
+        assertEquals(1, round.getSecondsRemaining(TimeUnit.SECONDS.toNanos(20) - 1));
+        assertEquals(0, round.getSecondsRemaining(TimeUnit.SECONDS.toNanos(20)));
+        assertEquals(7, round.revealed(7).getSecondsRemaining(TimeUnit.SECONDS.toNanos(30)));
+    }
+
+    @Test
+    void staleRoundDeadlineIsIgnored() {
+        VirtualGameScheduler clock = new LateCancelScheduler();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, clock, new FirstRoundOnly());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+        manager.startGame(1);
+        long firstRound = manager.getState().getEpoch();
+
+        clock.advanceBy(1000 + NEXT_ROUND_MILLIS);
+        GameState second = manager.getState();
+        assertEquals(1, second.getCurrentIndex());
+        assertEquals(GameState.Phase.PLAYING, second.getPhase());
+        assertTrue(second.getEpoch() > firstRound);
+
+        // The first round's deadline still fires and must leave the second round running
+        clock.advanceBy(ROUND_MILLIS - 1000 - NEXT_ROUND_MILLIS);
+        assertEquals(GameState.Phase.PLAYING, manager.getState().getPhase());
+        assertEquals(1, manager.getState().getCurrentIndex());
+
+        // Its own deadline reveals it; the player answers right away
+        clock.advanceBy(1000 + NEXT_ROUND_MILLIS);
+        assertEquals(GameState.Phase.ANSWERED, manager.getState().getPhase());
+        assertEquals(1, manager.getState().getCurrentIndex());
+    }
+
+    @Test
+    void staleNextRoundCallbackDoesNotAdvanceANewGame() {
+        VirtualGameScheduler clock = new LateCancelScheduler();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, clock, new WaitsForTimer());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+        manager.startGame(1);
+        clock.advanceBy(1000);
+        manager.handleAnswer(true); // the next round of this game is due in 1.5 s
+
+        clock.advanceBy(200);
+        manager.startGame(2);
+        clock.advanceBy(200);
+        manager.handleAnswer(true);
+        long answered = manager.getState().getEpoch();
+
+        // The old game's callback comes first; only the new game's own one advances it
+        clock.advanceBy(NEXT_ROUND_MILLIS - 400);
+        assertEquals(GameState.Phase.ANSWERED, manager.getState().getPhase());
+        assertEquals(0, manager.getState().getCurrentIndex());
+        assertEquals(answered, manager.getState().getEpoch());
+
+        clock.advanceBy(400);
+        assertEquals(GameState.Phase.PLAYING, manager.getState().getPhase());
+        assertEquals(1, manager.getState().getCurrentIndex());
+    }
+
+    @Test
+    void stoppedGameIgnoresItsPendingCallbacks() {
+        VirtualGameScheduler clock = new LateCancelScheduler();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, clock, new FirstRoundOnly());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+        manager.startGame(1);
+
+        manager.stopGame();
+        GameState stopped = manager.getState();
+        clock.runUntilIdle();
+
+        assertEquals(GameState.Phase.IDLE, manager.getState().getPhase());
+        assertEquals(stopped.getEpoch(), manager.getState().getEpoch());
+        assertEquals(0, manager.getScore());
+    }
+
+    @Test
+    void onlyTheFirstAnswerOfARoundCounts() {
+        VirtualGameScheduler clock = new VirtualGameScheduler();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, clock, new FirstRoundOnly());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+
+        manager.handleAnswer(true); // no game yet
+        assertEquals(0, manager.getScore());
+
+        manager.startGame(1);
+        manager.handleAnswer(true);
+        manager.handleAnswer(false);
+        assertEquals(15, manager.getScore());
+        assertEquals(3, manager.getHearts());
+        assertEquals(GameState.Phase.ANSWERED, manager.getState().getPhase());
+    }
+}
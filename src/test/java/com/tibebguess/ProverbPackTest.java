@@ -0,0 +1,131 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProverbPackTest {
+    private static final List<Proverb> PROVERBS = Arrays.asList(
+        new Proverb("ሰው ለሰው መድኃኒቱ ነው", "/images/easy/1.jpg", Proverb.Difficulty.EASY),
+        new Proverb("ቀስ በቀስ እንቁላል በእግሩ ይሄዳል", "/images/medium/1.jpg", Proverb.Difficulty.MEDIUM),
+        new Proverb("ድር ቢያብር አንበሳ ያስር", "/images/medium/2.jpg", Proverb.Difficulty.MEDIUM),
+        new Proverb("የማያውቁት አገር አይናፍቅም", "", Proverb.Difficulty.HARD),
+        new Proverb("ካልጠፉ ቅል አይሰበርም", "/images/medium/3.jpg", Proverb.Difficulty.MEDIUM));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackWhatWasWrittenGroupedByDifficulty() throws IOException {
+        Path file = dir.resolve("proverbs.pack");
+        assertEquals(PROVERBS.size(), ProverbPackWriter.write(PROVERBS.iterator(), file));
+
+        ProverbPack pack = ProverbPack.open(file);
+        assertEquals(PROVERBS.size(), pack.size());
+        int[] order = {0, 1, 2, 4, 3};
+        for (int i = 0; i < PROVERBS.size(); i++) {
+            Proverb expected = PROVERBS.get(order[i]);
+            Proverb actual = pack.get(i);
+            assertEquals(expected.getText(), actual.getText());
+            assertEquals(expected.getImagePath(), actual.getImagePath());
+            assertEquals(expected.getDifficulty(), actual.getDifficulty());
+            assertEquals(expected.getDifficulty(), pack.difficultyAt(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> pack.get(PROVERBS.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> pack.difficultyAt(-1));
+    }
+
+    @Test
+    void shuffledMatchesShufflingTheDifficultyInWrittenOrder() throws IOException {
+        Path file = dir.resolve("proverbs.pack");
+        List<Proverb> many = new ArrayList<>();
+        Proverb.Difficulty[] levels = Proverb.Difficulty.values();
+        for (int i = 0; i < 200; i++) {
+            many.add(new Proverb("proverb " + i, "/images/" + i + ".jpg", levels[i * 5 % levels.length]));
+        }
+        ProverbPackWriter.write(many.iterator(), file);
+        ProverbPack pack = ProverbPack.open(file);
+
+        for (Proverb.Difficulty difficulty : levels) {
+            List<String> expected = new ArrayList<>();
+            for (Proverb proverb : many) {
+                if (proverb.getDifficulty() == difficulty) {
+                    expected.add(proverb.getText());
+                }
+            }
+            Collections.shuffle(expected, new Random(7));
+            assertEquals(expected, texts(pack.shuffled(difficulty, new Random(7))));
+        }
+    }
+
+    @Test
+    void rejectsDifficultyCountsThatDoNotAddUp() throws IOException {
+        Path file = dir.resolve("proverbs.pack");
+        ProverbPackWriter.write(PROVERBS.iterator(), file);
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(ProverbPack.DIFFICULTY_COUNTS_OFFSET, 2);
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> ProverbPack.open(file));
+    }
+
+    @Test
+    void shufflesOneDifficultyTheSameWayForTheSameSeed() throws IOException {
+        Path file = dir.resolve("proverbs.pack");
+        ProverbPackWriter.write(PROVERBS.iterator(), file);
+        ProverbPack pack = ProverbPack.open(file);
+
+        List<String> first = texts(pack.shuffled(Proverb.Difficulty.MEDIUM, new Random(42)));
+        List<String> second = texts(pack.shuffled(Proverb.Difficulty.MEDIUM, new Random(42)));
+        assertEquals(first, second);
+        assertEquals(3, first.size());
+        List<String> sorted = new ArrayList<>(first);
+        sorted.sort(null);
+        List<String> expected = new ArrayList<>(Arrays.asList(
+            PROVERBS.get(1).getText(), PROVERBS.get(2).getText(), PROVERBS.get(4).getText()));
+        expected.sort(null);
+        assertEquals(expected, sorted);
+    }
+
+    @Test
+    void writesAnEmptyPack() throws IOException {
+        Path file = dir.resolve("empty.pack");
+        assertEquals(0, ProverbPackWriter.write(new ArrayList<Proverb>().iterator(), file));
+        assertEquals(0, ProverbPack.open(file).size());
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("proverbs.txt");
+        Files.write(file, "not a pack, but long enough for a header".getBytes());
+        assertThrows(IOException.class, () -> ProverbPack.open(file));
+    }
+
+    @Test
+    void rejectsTextsTooLongForTheFormat() {
+        Proverb huge = new Proverb("x".repeat(0x10000), "", Proverb.Difficulty.EASY);
+        Path file = dir.resolve("huge.pack");
+        assertThrows(IOException.class, () -> ProverbPackWriter.write(List.of(huge).iterator(), file));
+        assertFalse(Files.exists(file));
+    }
+
+    private static List<String> texts(List<Proverb> proverbs) {
+        List<String> texts = new ArrayList<>();
+        for (Proverb proverb : proverbs) {
+            texts.add(proverb.getText());
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,48 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ProverbParserTest {
+
+    @Test
+    void proverbsNamingTheSameImageShareItsPath() throws IOException {
+        List<Proverb> proverbs = ProverbLoader.parse(new BufferedReader(new StringReader(
+            "ሰው ለሰው መድኃኒቱ ነው|/images/easy/1.jpg\n"
+            + "ድር ቢያብር አንበሳ ያስር|  /images/easy/1.jpg  |HARD\n"
+            + "ካልጠፉ ቅል አይሰበርም|/images/easy/10.jpg\n")));
+
+        assertEquals(3, proverbs.size());
+        assertEquals("/images/easy/1.jpg", proverbs.get(0).getImagePath());
+        assertSame(proverbs.get(0).getImagePath(), proverbs.get(1).getImagePath());
+        assertEquals(Proverb.Difficulty.HARD, proverbs.get(1).getDifficulty());
+        assertEquals("/images/easy/10.jpg", proverbs.get(2).getImagePath());
+        assertNotSame(proverbs.get(0).getImagePath(), proverbs.get(2).getImagePath());
+    }
+
+    @Test
+    void malformedLinesAreReportedAndSkipped() {
+        List<ProverbParser.ParseError> errors = new ArrayList<>();
+        List<Proverb> proverbs = new ArrayList<>();
+        ProverbParser parser = new ProverbParser(new StringReader(
+            "# comment\n\nno bar\n|/images/easy/1.jpg\ntext|\ntext|/images/easy/1.jpg|SOMETIMES\nok|/images/hard/2.jpg\n"),
+            errors::add);
+        parser.forEachRemaining(proverbs::add);
+
+        assertEquals(1, proverbs.size());
+        assertEquals(Proverb.Difficulty.HARD, proverbs.get(0).getDifficulty());
+        assertEquals(4, errors.size());
+        assertEquals(3, errors.get(0).getLine());
+        assertEquals(6, errors.get(3).getLine());
+        assertEquals(25, errors.get(3).getColumn());
+    }
+}
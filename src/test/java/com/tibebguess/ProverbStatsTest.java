@@ -0,0 +1,136 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProverbStatsTest {
+    private static final Proverb FIRST = new Proverb("ሰው ለሰው መድኃኒቱ ነው", "", Proverb.Difficulty.EASY);
+    private static final Proverb SECOND = new Proverb("ድር ቢያብር አንበሳ ያስር", "", Proverb.Difficulty.MEDIUM);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void exportReadsBackAsTheSnapshot() throws Exception {
+        List<String> snapshot;
+        try (ProverbStats stats = ProverbStats.open(dir)) {
+            record(stats);
+            snapshot = describe(stats.snapshot());
+            stats.export();
+            assertEquals(snapshot, describe(ProverbStats.read(dir.resolve(ProverbStats.FILE_NAME))));
+        }
+        assertEquals(List.of(
+            FIRST.getText() + ":EASY:2:1:1:1:1:9000",
+            FIRST.getText() + ":RANDOM:1:0:1:0:1:30000",
+            SECOND.getText() + ":MEDIUM:1:1:0:1:0:2500"), snapshot);
+    }
+
+    @Test
+    void reopenedStatsKeepCounting() throws Exception {
+        try (ProverbStats stats = ProverbStats.open(dir)) {
+            record(stats);
+        }
+        try (ProverbStats reopened = ProverbStats.open(dir)) {
+            reopened.recordShown(SECOND, Proverb.Difficulty.MEDIUM);
+            reopened.recordAnswer(SECOND, Proverb.Difficulty.MEDIUM, false);
+            List<String> entries = describe(reopened.snapshot());
+            assertTrue(entries.contains(SECOND.getText() + ":MEDIUM:2:1:1:1:0:2500"), entries.toString());
+            assertEquals(3, entries.size());
+        }
+        assertEquals(3, ProverbStats.read(dir.resolve(ProverbStats.FILE_NAME)).size());
+    }
+
+    @Test
+    void textsTooLongForTheExportAreClipped() throws Exception {
+        Proverb huge = new Proverb("ሰ".repeat(30_000), "", Proverb.Difficulty.HARD);
+        try (ProverbStats stats = ProverbStats.open(dir)) {
+            stats.recordShown(huge, Proverb.Difficulty.HARD);
+            stats.recordAnswer(huge, Proverb.Difficulty.HARD, true);
+        }
+        List<ProverbStats.Entry> entries = ProverbStats.read(dir.resolve(ProverbStats.FILE_NAME));
+        assertEquals(1, entries.size());
+        String text = entries.get(0).getText();
+        assertEquals(ProverbStats.MAX_TEXT_BYTES / 3, text.length());
+        assertTrue(huge.getText().startsWith(text));
+        assertEquals(1, entries.get(0).getShown());
+        assertEquals(1, entries.get(0).getCorrect());
+    }
+
+    @Test
+    void clipKeepsWholeCharacters() {
+        assertEquals("short", ProverbStats.clip("short"));
+        String clipped = ProverbStats.clip("a" + "😀".repeat(20_000)); // 4 UTF-8 bytes each
+        assertEquals(ProverbStats.MAX_TEXT_BYTES - 2, clipped.getBytes(StandardCharsets.UTF_8).length);
+        assertTrue(Character.isLowSurrogate(clipped.charAt(clipped.length() - 1)));
+    }
+
+    @Test
+    void snapshotsSeeEveryTextRegisteredMeanwhile() throws Exception {
+        int threads = 4;
+        int textsPerThread = 500;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (ProverbStats stats = ProverbStats.open(dir)) {
+            List<Future<?>> recorders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                recorders.add(pool.submit(() -> {
+                    for (int i = 0; i < textsPerThread; i++) {
+                        Proverb proverb = new Proverb("proverb " + thread + "-" + i, "", Proverb.Difficulty.EASY);
+                        stats.recordShown(proverb, Proverb.Difficulty.EASY);
+                    }
+                }));
+            }
+            int previous = 0;
+            while (previous < threads * textsPerThread) {
+                List<ProverbStats.Entry> entries = stats.snapshot();
+                assertTrue(entries.size() >= previous);
+                for (ProverbStats.Entry entry : entries) {
+                    assertTrue(entry.getText().startsWith("proverb "));
+                }
+                previous = entries.size();
+            }
+            for (Future<?> recorder : recorders) {
+                recorder.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void record(ProverbStats stats) {
+        stats.recordShown(FIRST, Proverb.Difficulty.EASY);
+        stats.recordReveal(FIRST, Proverb.Difficulty.EASY, 4000, true);
+        stats.recordAnswer(FIRST, Proverb.Difficulty.EASY, true);
+        stats.recordShown(FIRST, Proverb.Difficulty.EASY);
+        stats.recordReveal(FIRST, Proverb.Difficulty.EASY, 5000, false);
+        stats.recordAnswer(FIRST, Proverb.Difficulty.EASY, false);
+        stats.recordShown(FIRST, null);
+        stats.recordReveal(FIRST, null, 30_000, false);
+        stats.recordAnswer(FIRST, null, false);
+        stats.recordShown(SECOND, Proverb.Difficulty.MEDIUM);
+        stats.recordReveal(SECOND, Proverb.Difficulty.MEDIUM, 2500, true);
+        stats.recordAnswer(SECOND, Proverb.Difficulty.MEDIUM, true);
+    }
+
+    // text:difficulty:shown:correct:wrong:early:timeouts:revealMillis
+    private static List<String> describe(List<ProverbStats.Entry> entries) {
+        List<String> described = new ArrayList<>();
+        for (ProverbStats.Entry entry : entries) {
+            described.add(entry.getText() + ":" + (entry.getDifficulty() == null ? "RANDOM" : entry.getDifficulty())
+                + ":" + entry.getShown() + ":" + entry.getCorrect() + ":" + entry.getWrong()
+                + ":" + entry.getEarlyReveals() + ":" + entry.getTimeouts() + ":" + entry.getTotalRevealMillis());
+        }
+        return described;
+    }
+}
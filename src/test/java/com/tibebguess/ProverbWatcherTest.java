@@ -0,0 +1,95 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProverbWatcherTest {
+    private static final String FIRST = "ሰው ለሰው መድኃኒቱ ነው|/images/easy/a.jpg|EASY";
+    private static final String SECOND = "ድር ቢያብር አንበሳ ያስር|/images/hard/b.jpg|HARD";
+
+    /** Remembers every list it is told about. */
+    private static final class Recorder implements ProverbWatcher.Listener {
+        final List<List<Proverb>> changes = new ArrayList<>();
+
+        @Override
+        public void proverbsChanged(List<Proverb> proverbs) {
+            changes.add(proverbs);
+        }
+
+        @Override
+        public void imageChanged(String resourcePath) {
+        }
+    }
+
+    @TempDir
+    Path dir;
+
+    private ProverbCatalog original;
+
+    @BeforeEach
+    void rememberCatalog() {
+        original = ProverbCatalog.get();
+    }
+
+    @AfterEach
+    void restoreCatalog() {
+        ProverbCatalog.replace(original);
+    }
+
+    @Test
+    void initialProverbsArePublishedInTheCatalog() throws IOException {
+        Path file = write(FIRST, SECOND);
+        try (ProverbWatcher watcher = new ProverbWatcher(file, null, new Recorder())) {
+            List<Proverb> proverbs = watcher.loadInitial();
+            assertEquals(2, proverbs.size());
+            assertEquals(proverbs, ProverbCatalog.get().getProverbs());
+        }
+    }
+
+    @Test
+    void missingFileLeavesTheCatalogAlone() throws IOException {
+        try (ProverbWatcher watcher = new ProverbWatcher(dir.resolve("missing.txt"), null, new Recorder())) {
+            assertTrue(watcher.loadInitial().isEmpty());
+            assertSame(original, ProverbCatalog.get());
+        }
+    }
+
+    @Test
+    void unreadableReloadKeepsTheCatalogAndTellsNobody() throws IOException {
+        Path file = write(FIRST, SECOND);
+        Recorder recorder = new Recorder();
+        try (ProverbWatcher watcher = new ProverbWatcher(file, null, recorder)) {
+            watcher.loadInitial();
+            ProverbCatalog loaded = ProverbCatalog.get();
+
+            Files.delete(file);
+            watcher.handleChanges(Set.of(file));
+            assertTrue(recorder.changes.isEmpty());
+            assertSame(loaded, ProverbCatalog.get());
+
+            write(SECOND);
+            watcher.handleChanges(Set.of(file));
+            assertEquals(1, recorder.changes.size());
+            assertEquals(Proverb.Difficulty.HARD, recorder.changes.get(0).get(0).getDifficulty());
+            assertEquals(recorder.changes.get(0), ProverbCatalog.get().getProverbs());
+        }
+    }
+
+    private Path write(String... lines) throws IOException {
+        return Files.write(dir.resolve("proverbs.txt"), List.of(lines), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,215 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SavedGameTest {
+    private static final List<Proverb> PROVERBS = Arrays.asList(
+        new Proverb("ሰው ለሰው መድኃኒቱ ነው", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("ቀስ በቀስ እንቁላል በእግሩ ይሄዳል", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("ድር ቢያብር አንበሳ ያስር", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("የማያውቁት አገር አይናፍቅም", "", Proverb.Difficulty.MEDIUM),
+        new Proverb("ካልጠፉ ቅል አይሰበርም", "", Proverb.Difficulty.EASY),
+        new Proverb("ሞኝ ና ወርቅ አንድ ቀን ይለያል", "", Proverb.Difficulty.EASY));
+    private static final long SEED = 9;
+
+    /** Leaves every reveal and answer to the test. */
+    private static final class Idle implements HeadlessGameManager.Player {
+        @Override
+        public long revealDelayMillis(Proverb proverb, int roundTimeSeconds) {
+            return -1;
+        }
+
+        @Override
+        public boolean answer(Proverb proverb) {
+            return false;
+        }
+    }
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void encodesAndDecodes() throws IOException {
+        SavedGame saved = new SavedGame(1234, -99, Proverb.Difficulty.HARD, SavedGame.FLAG_PICKED, 70000, 2,
+            300, 400, 12, 0x7EADBEEF, new byte[] {GameResult.ROUND_CORRECT, GameResult.ROUND_TIMED_OUT, 0});
+        byte[] encoded = saved.encode();
+        assertEquals(SavedGame.ENCODED_FIXED_SIZE + 3, encoded.length);
+
+        SavedGame decoded = SavedGame.decode(ByteBuffer.wrap(encoded));
+        assertEquals(1234, decoded.getSavedAtMillis());
+        assertEquals(-99, decoded.getSeed());
+        assertEquals(Proverb.Difficulty.HARD, decoded.getDifficulty());
+        assertTrue(decoded.isPicked());
+        assertEquals(70000, decoded.getScore());
+        assertEquals(2, decoded.getHearts());
+        assertEquals(300, decoded.getRoundIndex());
+        assertEquals(400, decoded.getTotalRounds());
+        assertEquals(12, decoded.getSecondsRemaining());
+        assertEquals(0x7EADBEEF, decoded.getProverbHash());
+        assertArrayEquals(saved.getOutcomes(), decoded.getOutcomes());
+    }
+
+    @Test
+    void randomModeDecodesAsNullDifficulty() throws IOException {
+        SavedGame saved = new SavedGame(0, 1, null, 0, 0, 3, 0, 5, 0, 0, new byte[0]);
+        SavedGame decoded = SavedGame.decode(ByteBuffer.wrap(saved.encode()));
+        assertNull(decoded.getDifficulty());
+        assertFalse(decoded.isPicked());
+    }
+
+    @Test
+    void rejectsBrokenEncodings() {
+        byte[] good = new SavedGame(0, 1, Proverb.Difficulty.EASY, 0, 10, 3, 1, 5, 0, 0,
+            new byte[] {GameResult.ROUND_CORRECT}).encode();
+
+        byte[] magic = good.clone();
+        magic[0] = 'X';
+        assertThrows(IOException.class, () -> SavedGame.decode(ByteBuffer.wrap(magic)));
+
+        byte[] version = good.clone();
+        version[5] = 1;
+        assertThrows(IOException.class, () -> SavedGame.decode(ByteBuffer.wrap(version)));
+
+        byte[] negative = good.clone();
+        ByteBuffer.wrap(negative).putInt(32, -1); // roundIndex
+        assertThrows(IOException.class, () -> SavedGame.decode(ByteBuffer.wrap(negative)));
+
+        assertThrows(IOException.class, () -> SavedGame.decode(ByteBuffer.wrap(good, 0, good.length - 1)));
+        assertThrows(IOException.class, () -> SavedGame.decode(ByteBuffer.wrap(good, 0, 20)));
+    }
+
+    @Test
+    void resumesWhereTheGameWasSaved() throws IOException {
+        SavedGame saved = playAndSave();
+        assertEquals(Proverb.Difficulty.MEDIUM, saved.getDifficulty());
+        assertEquals(1, saved.getRoundIndex());
+        assertEquals(4, saved.getTotalRounds());
+        assertEquals(15, saved.getScore());
+        assertEquals(3, saved.getHearts());
+        assertEquals(15, saved.getSecondsRemaining());
+        assertArrayEquals(new byte[] {GameResult.ROUND_CORRECT}, saved.getOutcomes());
+
+        VirtualGameScheduler clock = new VirtualGameScheduler();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, clock, new Idle());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.EASY);
+        assertTrue(manager.resumeGame(saved));
+
+        GameState state = manager.getState();
+        assertEquals(Proverb.Difficulty.MEDIUM, manager.getSelectedDifficulty());
+        assertEquals(GameState.Phase.PLAYING, state.getPhase());
+        assertEquals(1, state.getCurrentIndex());
+        assertEquals(15, state.getScore());
+        assertEquals(3, state.getHearts());
+        assertEquals(15, manager.getTimeRemaining());
+        assertEquals(saved.getProverbHash(), state.getCurrentProverb().getText().hashCode());
+        assertArrayEquals(saved.getOutcomes(), state.getOutcomes());
+
+        // The shortened round ends on time; the player's wrong answer costs a heart
+        clock.advanceBy(14_999);
+        assertEquals(GameState.Phase.PLAYING, manager.getState().getPhase());
+        clock.advanceBy(1);
+        assertEquals(GameState.Phase.ANSWERED, manager.getState().getPhase());
+        assertEquals(2, manager.getHearts());
+    }
+
+    @Test
+    void rejectsGamesThatNoLongerMatchAndKeepsTheRunningGame() throws IOException {
+        SavedGame saved = playAndSave();
+
+        List<Proverb> changed = new ArrayList<>();
+        for (Proverb proverb : PROVERBS) {
+            boolean resumed = proverb.getText().hashCode() == saved.getProverbHash();
+            changed.add(resumed ? new Proverb(proverb.getText() + "!", "", proverb.getDifficulty()) : proverb);
+        }
+        List<Proverb> fewer = new ArrayList<>(PROVERBS.subList(1, PROVERBS.size()));
+        for (List<Proverb> proverbs : Arrays.asList(changed, fewer)) {
+            HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), new Idle());
+            manager.initializeProverbs(proverbs);
+            manager.setDifficulty(Proverb.Difficulty.EASY);
+            manager.startGame(1);
+            GameState running = manager.getState();
+
+            assertFalse(manager.resumeGame(saved));
+            assertEquals(Proverb.Difficulty.EASY, manager.getSelectedDifficulty());
+            assertEquals(running, manager.getState());
+        }
+    }
+
+    @Test
+    void rejectsGamesThatAreAlreadyOver() {
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), new Idle());
+        manager.initializeProverbs(PROVERBS);
+        int hash = hashAt(1);
+
+        assertTrue(manager.resumeGame(saved(3, 1, 4, hash)));
+        manager.stopGame();
+        assertFalse(manager.resumeGame(saved(0, 1, 4, hash)), "no hearts left");
+        assertFalse(manager.resumeGame(saved(3, 4, 4, hash)), "past the last round");
+        assertFalse(manager.resumeGame(saved(3, 1, 4, hash + 1)), "different proverb");
+        assertEquals(GameState.Phase.IDLE, manager.getState().getPhase());
+    }
+
+    @Test
+    void finishedGamesClearTheSave() throws IOException {
+        SavedGameStore store = SavedGameStore.open(dir);
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), new Idle());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+        manager.setSavedGameStore(store);
+        manager.play(SEED);
+        store.close();
+
+        assertTrue(manager.isFinished());
+        assertNull(SavedGameStore.open(dir).load());
+    }
+
+    // Answers round one of a MEDIUM game, then saves five seconds into round two
+    private SavedGame playAndSave() throws IOException {
+        SavedGameStore store = SavedGameStore.open(dir);
+        VirtualGameScheduler clock = new VirtualGameScheduler();
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, clock, new Idle());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+        manager.setSavedGameStore(store);
+        manager.startGame(SEED);
+        clock.advanceBy(2000);
+        manager.handleAnswer(true);
+        clock.advanceBy(1500 + 5000);
+        manager.saveProgress();
+        store.close();
+
+        SavedGame saved = SavedGameStore.open(dir).load();
+        assertNotNull(saved);
+        return saved;
+    }
+
+    private static SavedGame saved(int hearts, int roundIndex, int totalRounds, int hash) {
+        return new SavedGame(0, SEED, Proverb.Difficulty.MEDIUM, 0, 0, hearts, roundIndex, totalRounds, 0, hash, new byte[0]);
+    }
+
+    // Hash of the text a MEDIUM game shuffled from SEED plays at round index
+    private static int hashAt(int index) {
+        HeadlessGameManager manager = new HeadlessGameManager(GameRules.STANDARD, new VirtualGameScheduler(), new Idle());
+        manager.initializeProverbs(PROVERBS);
+        manager.setDifficulty(Proverb.Difficulty.MEDIUM);
+        manager.startGame(SEED);
+        return manager.getState().getProverbs().get(index).getText().hashCode();
+    }
+}
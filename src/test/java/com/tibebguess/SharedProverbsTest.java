@@ -0,0 +1,59 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class SharedProverbsTest {
+
+    @Test
+    void shuffledMatchesShufflingAFilteredCopy() {
+        List<Proverb> catalog = catalog();
+        ProverbSource shared = SharedProverbs.of(catalog);
+        for (Proverb.Difficulty difficulty : Proverb.Difficulty.values()) {
+            for (long seed = 0; seed < 20; seed++) {
+                List<Proverb> copy = catalog.stream()
+                    .filter(proverb -> proverb.getDifficulty() == difficulty)
+                    .collect(Collectors.toList());
+                Collections.shuffle(copy, new Random(seed));
+                assertEquals(copy, shared.shuffled(difficulty, new Random(seed)));
+            }
+        }
+    }
+
+    @Test
+    void sourcesAreNotCopiedAgain() {
+        ProverbSource shared = SharedProverbs.of(catalog());
+        assertSame(shared, SharedProverbs.of(shared));
+    }
+
+    @Test
+    void sessionsOverTheSharedListPlayTheSameGames() {
+        List<Proverb> catalog = catalog();
+        ProverbSource shared = SharedProverbs.of(catalog);
+        for (long seed = 1; seed <= 5; seed++) {
+            GameSession copied = GameSession.create("c" + seed, catalog, Proverb.Difficulty.HARD, new VirtualGameScheduler());
+            copied.startGame(seed);
+
+            GameSession session = GameSession.create("s" + seed, shared, Proverb.Difficulty.HARD, new VirtualGameScheduler());
+            session.startGame(seed);
+            assertEquals(copied.getState().getProverbs(), session.getState().getProverbs());
+        }
+    }
+
+    private static List<Proverb> catalog() {
+        List<Proverb> catalog = new ArrayList<>();
+        Proverb.Difficulty[] levels = Proverb.Difficulty.values();
+        for (int i = 0; i < 300; i++) {
+            catalog.add(new Proverb("proverb " + i, "", levels[i * 7 % levels.length]));
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,169 @@
+package com.tibebguess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpacedRepetitionTest {
+    private static final Proverb FIRST = new Proverb("ሰው ለሰው መድኃኒቱ ነው", "", Proverb.Difficulty.EASY);
+    private static final Proverb SECOND = new Proverb("ድር ቢያብር አንበሳ ያስር", "", Proverb.Difficulty.EASY);
+    private static final Proverb THIRD = new Proverb("ካልጠፉ ቅል አይሰበርም", "", Proverb.Difficulty.EASY);
+    private static final Proverb HARD = new Proverb("የማያውቁት አገር አይናፍቅም", "", Proverb.Difficulty.HARD);
+    private static final long START = TimeUnit.DAYS.toMillis(20_000);
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+    private static final int PARKED = Integer.MAX_VALUE;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void heapKeepsTheSoonestCardFirstAfterRescheduling() {
+        SpacedRepetition.Deck deck = new SpacedRepetition.Deck("test", new AtomicLong());
+        Random random = new Random(17);
+        for (int id = 0; id < 500; id++) {
+            deck.add(id, random.nextInt(100_000), 0, 0, 120);
+        }
+        for (int i = 0; i < 2000; i++) {
+            deck.reschedule(random.nextInt(deck.size()), random.nextInt(100_000));
+        }
+
+        int previous = Integer.MIN_VALUE;
+        for (int i = 0; i < deck.size(); i++) {
+            int first = deck.first();
+            int soonest = Integer.MAX_VALUE;
+            for (int slot = 0; slot < deck.size(); slot++) {
+                soonest = Math.min(soonest, deck.dueMinutes(slot));
+            }
+            assertEquals(soonest, deck.dueMinutes(first));
+            assertTrue(soonest >= previous);
+            previous = soonest;
+            deck.reschedule(first, PARKED);
+        }
+    }
+
+    @Test
+    void reviewsFollowSm2() {
+        SpacedRepetition.Deck deck = new SpacedRepetition.Deck("test", new AtomicLong());
+        int slot = deck.add(0, 0, 0, 0, 250 - 130);
+
+        int[] intervals = {1, 6, 17, 49};
+        int[] easiness = {260, 270, 280, 290};
+        for (int review = 0; review < intervals.length; review++) {
+            deck.review(slot, 5, 1000);
+            assertEquals(intervals[review], deck.intervalDays(slot));
+            assertEquals(easiness[review], deck.easiness(slot));
+            assertEquals(review + 1, deck.repetitions(slot));
+            assertEquals(1000 + intervals[review] * 24 * 60, deck.dueMinutes(slot));
+        }
+
+        deck.review(slot, 0, 2000);
+        assertEquals(0, deck.repetitions(slot));
+        assertEquals(0, deck.intervalDays(slot));
+        assertEquals(210, deck.easiness(slot));
+        assertEquals(2010, deck.dueMinutes(slot));
+        deck.review(slot, 0, 2000);
+        assertEquals(130, deck.easiness(slot));
+
+        for (int review = 0; review < 40; review++) {
+            deck.review(slot, 5, 0);
+        }
+        assertEquals(385, deck.easiness(slot));
+        assertEquals(36500, deck.intervalDays(slot));
+        assertEquals(36500 * 24 * 60, deck.dueMinutes(slot));
+    }
+
+    @Test
+    void unseenProverbsComeInCatalogOrderOncePerDeck() throws Exception {
+        List<Proverb> catalog = List.of(FIRST, HARD, SECOND, THIRD);
+        try (SpacedRepetition cards = SpacedRepetition.open(dir)) {
+            SpacedRepetition.Session game = cards.begin("ann", Proverb.Difficulty.EASY, catalog);
+            assertSame(FIRST, game.next(START));
+            game.recordAnswer(5, START);
+            assertSame(SECOND, game.next(START));
+            game.recordAnswer(5, START);
+
+            SpacedRepetition.Session again = cards.begin("ann", Proverb.Difficulty.EASY, catalog);
+            assertSame(THIRD, again.next(START));
+            again.recordAnswer(5, START);
+            // Nothing due and nothing new: the card due soonest
+            assertEquals(Proverb.Difficulty.EASY, again.next(START).getDifficulty());
+
+            assertSame(FIRST, cards.begin("bo", null, catalog).next(START));
+            assertSame(HARD, cards.begin("ann", Proverb.Difficulty.HARD, catalog).next(START));
+        }
+    }
+
+    @Test
+    void cardsLeftOutOfTheCatalogComeBackWithIt() throws Exception {
+        try (SpacedRepetition cards = SpacedRepetition.open(dir)) {
+            SpacedRepetition.Session game = cards.begin("ann", Proverb.Difficulty.EASY, List.of(FIRST, SECOND, THIRD));
+            for (int round = 0; round < 3; round++) {
+                assertNotNull(game.next(START));
+                game.recordAnswer(5, START);
+            }
+
+            long later = START + 2 * DAY;
+            SpacedRepetition.Session smaller = cards.begin("ann", Proverb.Difficulty.EASY, List.of(FIRST, THIRD));
+            for (int round = 0; round < 4; round++) {
+                Proverb proverb = smaller.next(later);
+                assertNotEquals(SECOND, proverb);
+                smaller.recordAnswer(5, later);
+            }
+
+            SpacedRepetition.Session restored = cards.begin("ann", Proverb.Difficulty.EASY, List.of(FIRST, SECOND, THIRD));
+            assertSame(SECOND, restored.next(later));
+            restored.recordAnswer(5, later);
+            SpacedRepetition.Deck deck = cards.getDeck("ann/EASY");
+            assertEquals(later / 60_000 + 6 * 24 * 60, deck.dueMinutes(deck.slotOf(1)));
+        }
+    }
+
+    @Test
+    void decksSurviveSavingAndLoading() throws Exception {
+        List<Proverb> catalog = List.of(FIRST, SECOND, THIRD, HARD);
+        List<String> saved;
+        try (SpacedRepetition cards = SpacedRepetition.open(dir)) {
+            SpacedRepetition.Session game = cards.begin("ann", null, catalog);
+            for (int round = 0; round < 4; round++) {
+                assertNotNull(game.next(START));
+                game.recordAnswer(round == 1 ? 0 : 5, START);
+            }
+            SpacedRepetition.Deck deck = cards.getDeck("ann/RANDOM");
+            int slot = deck.slotOf(0);
+            for (int review = 0; review < 40; review++) {
+                deck.review(slot, 5, 0);
+            }
+            saved = describe(deck);
+        }
+
+        try (SpacedRepetition reopened = SpacedRepetition.open(dir)) {
+            SpacedRepetition.Deck deck = reopened.getDeck("ann/RANDOM");
+            assertEquals(saved, describe(deck));
+            assertTrue(saved.contains("0:52560000:36500:41:385"), saved.toString());
+            // The card missed in the saved game is the one due first
+            assertSame(SECOND, reopened.begin("ann", null, catalog).next(START + DAY));
+        }
+    }
+
+    // proverbId:dueMinutes:intervalDays:repetitions:easiness of every card
+    private static List<String> describe(SpacedRepetition.Deck deck) {
+        List<String> described = new ArrayList<>();
+        for (int slot = 0; slot < deck.size(); slot++) {
+            described.add(deck.proverbId(slot) + ":" + deck.dueMinutes(slot) + ":" + deck.intervalDays(slot)
+                + ":" + deck.repetitions(slot) + ":" + deck.easiness(slot));
+        }
+        return described;
+    }
+}